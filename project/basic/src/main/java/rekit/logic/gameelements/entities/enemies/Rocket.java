@@ -132,8 +132,6 @@ public final class Rocket extends Enemy implements Configurable {
 		this.setPos(this.getPos().addX(this.getXSignum() * this.currentSpeed * this.deltaTime / 1000F));
 
 		// spawn particles
-		this.paricleTimer.logicLoop();
-		// this.paricleTimer.removeTime(this.deltaTime);
 		if (this.paricleTimer.timeUp()) {
 			this.paricleTimer.reset();
 			Rocket.sparkParticles.spawn(this.getScene(), this.getPos().addX(-this.getXSignum() * this.getSize().x / 2));
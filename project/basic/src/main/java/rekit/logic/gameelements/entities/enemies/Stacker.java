@@ -132,11 +132,9 @@ public final class Stacker extends Enemy implements Configurable {
 
 		@Override
 		protected void innerLogicLoop() {
-			this.setPos(Stacker.this.getPos().add(this.relPos).addX((float) (0.1 * FastMath.sin(0.1 * GameTime.getTime() / 30 + this.offset))));
+			this.setPos(Stacker.this.getPos().add(this.relPos).addX((float) (0.1 * FastMath.sin(0.1 * GameTime.getTickTime() / 30 + this.offset))));
 
 			if (this.timeToDie != null) {
-				this.timeToDie.logicLoop();
-				// this.timeToDie.removeTime(this.deltaTime);
 				this.setSize(Stacker.dimensions.getNow(this.timeToDie.getProgress()));
 				this.setPos(this.getPos().addY((-this.getSize().y + Stacker.dimensions.getNow(0).y) / 2f));
 				if (this.timeToDie.timeUp()) {
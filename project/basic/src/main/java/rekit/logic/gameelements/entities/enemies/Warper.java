@@ -81,10 +81,6 @@ public final class Warper extends Enemy implements Configurable {
 
 	@Override
 	protected void innerLogicLoop() {
-		// decrease time left
-		this.warpAction.logicLoop();
-		// this.warpAction.removeTime(this.deltaTime);
-
 		// animate particles
 		Warper.WARP_PARTICLES.amountMin = -5;
 		Warper.WARP_PARTICLES.amountMax = 2;
@@ -15,7 +15,6 @@ import rekit.logic.level.BossStructure;
 import rekit.primitives.geometry.Direction;
 import rekit.primitives.geometry.Frame;
 import rekit.primitives.geometry.Vec;
-import rekit.primitives.time.Timer;
 import rekit.util.ReflectUtils.LoadMe;
 
 /**
@@ -126,7 +125,7 @@ public final class RektSmasher extends Boss implements Configurable {
 		if (GameConf.PRNG.nextDouble() > 0.8 && this.innerRektKiller.hasSide(Direction.getOpposite(dir))) {
 			// remove side
 			this.innerRektKiller.setSide(Direction.getOpposite(dir), false);
-			Timer.execute(RektSmasher.SPIKE_TIME, () -> this.innerRektKiller.setSide(Direction.getOpposite(dir), true));
+			this.getScene().getScheduler().schedule(RektSmasher.SPIKE_TIME, () -> this.innerRektKiller.setSide(Direction.getOpposite(dir), true));
 		}
 	}
 
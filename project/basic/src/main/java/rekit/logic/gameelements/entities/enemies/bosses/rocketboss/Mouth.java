@@ -29,7 +29,6 @@ public class Mouth {
 
 	public void logicLoop(float calcX, float deltaX) {
 		this.mouthCurvePos = this.parent.getPos().add(this.pos).addX(0.5f * this.size.x).addX(-calcX);
-		this.mouthCurveTimer.logicLoop();
 		float maxDelta = this.size.y * 0.5f * this.parent.getState().getMouthAmplitude();
 		while (this.mouthCurveTimer.timeUp()) {
 			this.mouthCurveTimer.reset();
@@ -323,10 +323,6 @@ public class RocketBoss extends Boss implements Configurable {
 
 		super.innerLogicLoop();
 
-		if (this.nextPosTimer != null) {
-			this.nextPosTimer.logicLoop();
-		}
-
 		// add deltaTime with factor to local x (1000 to get u/s)
 		float deltaX = this.deltaTime * this.getState().getTimeFactor() / 1000;
 		this.calcX += deltaX;
@@ -341,8 +337,6 @@ public class RocketBoss extends Boss implements Configurable {
 		this.mouth.logicLoop(this.calcX, deltaX);
 
 		// spawn particles
-		this.particleTimer.logicLoop();
-		// this.paricleTimer.removeTime(this.deltaTime);
 		if (this.particleTimer.timeUp()) {
 			this.particleTimer.reset();
 			// RocketBoss.sparkParticles.spawn(this.getScene(),
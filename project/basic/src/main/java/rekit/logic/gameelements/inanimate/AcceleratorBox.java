@@ -158,7 +158,7 @@ public final class AcceleratorBox extends DynamicInanimate implements Configurab
 	 * The last time when {@link #logicLoop(float)} was invoked.
 	 */
 	@NoSet
-	private long lastTime = GameTime.getTime();
+	private long lastTime = GameTime.getTickTime();
 
 	/**
 	 * The timer for the warmUp of the aiming.
@@ -299,16 +299,12 @@ public final class AcceleratorBox extends DynamicInanimate implements Configurab
 
 	@Override
 	public void logicLoop() {
-		if (this.warmUp != null) {
-			this.warmUp.logicLoop();
-		}
-
 		Player player = this.getScene().getPlayer();
 
 		if (this.playerCaught) {
 			// if aiming is already activated:
 			if (this.warmUp != null && this.warmUp.timeUp()) {
-				long deltaTime = GameTime.getTime() - this.lastTime;
+				long deltaTime = GameTime.getTickTime() - this.lastTime;
 				Vec vel = player.getVel();
 
 				if (!player.getEntityState().canJump()) { // JUMP
@@ -94,12 +94,12 @@ public final class BoostBox extends DynamicInanimate implements Configurable {
 	 * The last time when {@link #logicLoop(float)} was invoked.
 	 */
 	@NoSet
-	private long lastTime = GameTime.getTime();
+	private long lastTime = GameTime.getTickTime();
 
 	@Override
 	public void logicLoop() {
 		// Get new strategy from strategy map
-		long deltaTime = GameTime.getTime() - this.lastTime;
+		long deltaTime = GameTime.getTickTime() - this.lastTime;
 		this.lastTime += deltaTime;
 		this.offset += deltaTime;
 
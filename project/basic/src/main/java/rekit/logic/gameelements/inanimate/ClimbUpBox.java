@@ -104,8 +104,6 @@ public final class ClimbUpBox extends DynamicInanimate implements Configurable {
     @Override
     public void logicLoop() {
 
-	// update timer
-	this.timer.logicLoop();
 	// Get new strategy from strategy map
 	if (this.timer.timeUp()) {
 	    this.current = (this.current + 1) % this.strategies.length;
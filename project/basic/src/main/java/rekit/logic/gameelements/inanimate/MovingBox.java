@@ -2,7 +2,6 @@ package rekit.logic.gameelements.inanimate;
 
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
-import rekit.core.GameTime;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.entities.Player;
 import rekit.logic.gameelements.particles.ParticleSpawner;
@@ -59,10 +58,6 @@ public final class MovingBox extends DynamicInanimate {
 	 * The X size divided by 16.
 	 */
 	private float sizeX16;
-	/**
-	 * The last time of invoking {@link #logicLoop()}.
-	 */
-	private long lastTime = GameTime.getTime();
 	/**
 	 * The particle spawner.
 	 */
@@ -135,10 +130,6 @@ public final class MovingBox extends DynamicInanimate {
 
 	@Override
 	public void logicLoop() {
-		long deltaTime = GameTime.getTime() - this.lastTime;
-		this.lastTime += deltaTime;
-		this.timer.logicLoop();
-		// this.timer.removeTime(deltaTime);
 		this.setPos(this.currentStart.add(this.relativeTarget.scalar(this.timer.getProgress())));
 
 		if (GameConf.PRNG.nextFloat() > 0.6f) {
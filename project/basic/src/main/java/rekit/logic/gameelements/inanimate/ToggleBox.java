@@ -75,7 +75,7 @@ public final class ToggleBox extends DynamicInanimate {
 	@Override
 	public void logicLoop() {
 		// Get new strategy from strategy map
-		this.currentStrategy = this.strategies.get((GameTime.getTime() + this.offset) % ToggleBox.PERIOD < ToggleBox.PERIOD / 2);
+		this.currentStrategy = this.strategies.get((GameTime.getTickTime() + this.offset) % ToggleBox.PERIOD < ToggleBox.PERIOD / 2);
 	}
 
 	@Override
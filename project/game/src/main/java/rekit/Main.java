@@ -1,5 +1,7 @@
 package rekit;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.core.config.Configurator;
 import org.fuchss.configuration.Configurable;
@@ -11,10 +13,11 @@ import rekit.gui.View;
 import rekit.gui.controller.Controller;
 import rekit.logic.Model;
 import rekit.logic.develop.TestScene;
+import rekit.logic.gameelements.GameElementFactory;
 import rekit.persistence.ModManager;
 import rekit.persistence.level.LevelManager;
 import rekit.util.ReflectUtils;
-import rekit.util.ThreadUtils;
+import rekit.util.TaskGraph;
 
 /**
  * Game class that instantiates all necessary classes that are required for a
@@ -30,6 +33,12 @@ public final class Main {
 	private Main() {
 	}
 
+	/**
+	 * The amount of threads used for startup (max. amount of independent
+	 * startup tasks).
+	 */
+	private static final int STARTUP_THREADS = 3;
+
 	/**
 	 * Launches the application by starting the game.
 	 *
@@ -40,8 +49,6 @@ public final class Main {
 		Thread.currentThread().setName("Startup");
 		Configurator.setRootLevel(GameConf.DEBUG ? Level.ALL : Level.FATAL);
 		GameConf.GAME_LOGGER.debug(ModManager.SYSLOADER.getClass().getSimpleName() + " (Sysloader loaded.)");
-		Main.applyAllConfigs();
-		LevelManager.init();
 
 		// Create MVC
 		// Set References:
@@ -49,15 +56,21 @@ public final class Main {
 		// ^-------------|
 		Model model = Model.getModel();
 		Main.applyDebug(model);
-		View view = View.getView(model);
-		Controller controller = Controller.getController(model, view);
+		AtomicReference<View> view = new AtomicReference<>();
+		AtomicReference<Controller> controller = new AtomicReference<>();
+
+		TaskGraph startup = new TaskGraph("Startup", Main.STARTUP_THREADS);
+		startup.add("Config", Main::applyAllConfigs);
+		startup.add("Levels", LevelManager::init);
+		startup.add("Prototypes", GameElementFactory::initialize, "Config");
+		startup.add("Window", () -> view.set(View.getView(model)), "Config");
+		startup.add("Controller", () -> controller.set(Controller.getController(model, view.get())), "Window");
+		startup.add("Model", model::start, "Prototypes", "Levels");
+		startup.run();
 
-		// Start MVC
-		model.start();
-		ThreadUtils.sleep(100);
-		controller.start();
-		ThreadUtils.sleep(100);
-		view.start();
+		// Start MVC (the model has its scene now)
+		controller.get().start();
+		view.get().start();
 
 	}
 
@@ -63,6 +63,27 @@ public final class GameConf implements Configurable {
 	@NoSet
 	public static boolean CONTINUOUS_ATTACK = false;
 
+	/**
+	 * Indicates whether frames shall be rendered uncapped (instead of every
+	 * {@link #RENDER_DELTA} ms), each synchronized with the display by
+	 * {@link java.awt.Toolkit#sync()}.
+	 */
+	@NoSet
+	public static boolean VSYNC = false;
+
+	/**
+	 * The current quality tier of the graphics.
+	 */
+	@NoSet
+	public static Quality QUALITY = Quality.HIGH;
+
+	/**
+	 * Indicates whether the {@link #QUALITY} shall be adapted to the frame and
+	 * tick times.
+	 */
+	@NoSet
+	public static boolean AUTO_QUALITY = true;
+
 	/**
 	 * The Name of the Game.
 	 */
@@ -94,24 +115,43 @@ public final class GameConf implements Configurable {
 	public static float GRID_TOLERANCE_BELOW;
 
 	/**
-	 * Width of the window.<br>
+	 * Width in units of the band right of the screen in which GameElements are
+	 * still active. GameElements further ahead will be parked until the
+	 * camera approaches.
+	 */
+	public static float ACTIVATION_DISTANCE;
+
+	/**
+	 * Logical width of the window (the window may be resized).<br>
 	 * Calculated by {@link GameConf#GRID_W} * {@link GameConf#PX_PER_UNIT}.
 	 */
 	@NoSet
 	public static int PIXEL_W;
 	/**
-	 * Height of the window.<br>
+	 * Logical height of the window (the window may be resized).<br>
 	 * Calculated by {@link GameConf#GRID_H} * {@link GameConf#PX_PER_UNIT}.
 	 */
 	@NoSet
 	public static int PIXEL_H;
 
+	/**
+	 * The factor of the internal render resolution to the logical size
+	 * ({@link #PIXEL_W} x {@link #PIXEL_H}) in [0.5, 2].
+	 */
+	public static float RENDER_SCALE;
+
 	/**
 	 * Time in milliseconds to wait after each renderLoop, that refreshes all
 	 * graphical elements.
 	 */
 	public static int RENDER_DELTA;
 
+	/**
+	 * Time in milliseconds to wait after each renderLoop while nothing on
+	 * screen changes (menus and pause).
+	 */
+	public static int IDLE_RENDER_DELTA;
+
 	/**
 	 * Time in milliseconds to wait after each logicLoop, that simulates physics
 	 * changes positions, detects collisions, ...
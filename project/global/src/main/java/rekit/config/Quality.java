@@ -0,0 +1,121 @@
+package rekit.config;
+
+/**
+ * This enum defines the quality tiers of the graphics (see
+ * {@link GameConf#QUALITY}). Lower tiers shed work if the frame or tick times
+ * exceed their budget.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public enum Quality {
+	/**
+	 * Minimal details, no antialiasing.
+	 */
+	LOW(4, 1, 0.3F, 1, false),
+	/**
+	 * Reduced details, no antialiasing.
+	 */
+	MEDIUM(10, 5, 0.6F, 2, false),
+	/**
+	 * Full details with antialiasing.
+	 */
+	HIGH(20, 9, 1F, Integer.MAX_VALUE, true);
+
+	/**
+	 * The amount of grass straws per floor tile.
+	 */
+	private final int straws;
+	/**
+	 * The amount of circles per coin.
+	 */
+	private final int coinCircles;
+	/**
+	 * The factor of the amount of spawned particles.
+	 */
+	private final float particleScale;
+	/**
+	 * The amount of generated parallax layers.
+	 */
+	private final int parallaxLayers;
+	/**
+	 * Indicates whether antialiasing (and bilinear scaling of the rendered
+	 * frame) shall be used.
+	 */
+	private final boolean antialiasing;
+
+	Quality(int straws, int coinCircles, float particleScale, int parallaxLayers, boolean antialiasing) {
+		this.straws = straws;
+		this.coinCircles = coinCircles;
+		this.particleScale = particleScale;
+		this.parallaxLayers = parallaxLayers;
+		this.antialiasing = antialiasing;
+	}
+
+	/**
+	 * Get the amount of grass straws per floor tile.
+	 *
+	 * @return the amount of straws
+	 */
+	public int getStraws() {
+		return this.straws;
+	}
+
+	/**
+	 * Get the amount of circles per coin.
+	 *
+	 * @return the amount of circles
+	 */
+	public int getCoinCircles() {
+		return this.coinCircles;
+	}
+
+	/**
+	 * Scale an amount of particles.
+	 *
+	 * @param amount
+	 *            the full amount
+	 * @return the scaled amount (at least one if the full amount is positive)
+	 */
+	public int scaleParticles(int amount) {
+		return amount <= 0 ? amount : Math.max(1, Math.round(amount * this.particleScale));
+	}
+
+	/**
+	 * Get the amount of parallax layers which shall be generated (the first
+	 * layers of a scene).
+	 *
+	 * @return the amount of layers
+	 */
+	public int getParallaxLayers() {
+		return this.parallaxLayers;
+	}
+
+	/**
+	 * Indicates whether antialiasing shall be used.
+	 *
+	 * @return {@code true} if antialiasing shall be used
+	 */
+	public boolean isAntialiasing() {
+		return this.antialiasing;
+	}
+
+	/**
+	 * Get the next lower tier.
+	 *
+	 * @return the next lower tier or this tier if it is the lowest
+	 */
+	public Quality lower() {
+		return this.ordinal() == 0 ? this : Quality.values()[this.ordinal() - 1];
+	}
+
+	/**
+	 * Get the next higher tier.
+	 *
+	 * @return the next higher tier or this tier if it is the highest
+	 */
+	public Quality higher() {
+		Quality[] values = Quality.values();
+		return this.ordinal() == values.length - 1 ? this : values[this.ordinal() + 1];
+	}
+}
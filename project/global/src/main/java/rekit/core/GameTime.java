@@ -2,7 +2,10 @@ package rekit.core;
 
 /**
  * This class manages the time of the game and replaces
- * {@link System#currentTimeMillis()}.
+ * {@link System#currentTimeMillis()}.<br>
+ * In addition, the time of the current logic tick will be captured once per
+ * tick (see {@link #tick()}), so that all timers and game elements of one tick
+ * share the same time instead of reading the clock each.
  *
  * @author Dominik Fuchss
  *
@@ -26,6 +29,10 @@ public final class GameTime {
 	 * Indicates whether game is paused.
 	 */
 	private static boolean pause = false;
+	/**
+	 * The time of the current tick.
+	 */
+	private static volatile long tickTime = GameTime.getTime();
 
 	/**
 	 * Get the current time in the game.
@@ -34,11 +41,28 @@ public final class GameTime {
 	 */
 	public static long getTime() {
 		if (GameTime.pause) {
-			return GameTime.started;
+			return GameTime.started - GameTime.paused;
 		}
 		return System.currentTimeMillis() - GameTime.paused;
 	}
 
+	/**
+	 * Start a new logic tick: capture the current time as time of the tick.
+	 * This method shall only be invoked by the logic thread.
+	 */
+	public static void tick() {
+		GameTime.tickTime = GameTime.getTime();
+	}
+
+	/**
+	 * Get the time of the current logic tick (see {@link #tick()}).
+	 *
+	 * @return the time of the current tick
+	 */
+	public static long getTickTime() {
+		return GameTime.tickTime;
+	}
+
 	/**
 	 * Pause the game.
 	 */
@@ -1,7 +1,9 @@
 package rekit.primitives.image;
 
 /**
- * This class represents an abstract version of an Image.
+ * This class represents an abstract version of an Image. The pixels are
+ * either stored as RGBA bytes ({@link #pixels}) or as packed ARGB ints
+ * ({@link #argb}); packed images can be displayed without conversion.
  *
  * @author Dominik Fuchss
  *
@@ -17,9 +19,17 @@ public final class AbstractImage {
 	public final int height;
 	/**
 	 * This array contains the RGBA values of the image in this order
-	 * R-&gt;G-&gt;B-&gt;A.
+	 * R-&gt;G-&gt;B-&gt;A or {@code null} if the image {@link #isPacked() is
+	 * packed}. <b>Check {@link #isPacked()} (or use {@link #toRGBA()}) before
+	 * accessing this field, it may be {@code null}.</b>
 	 */
 	public final byte[] pixels;
+	/**
+	 * This array contains the packed ARGB values of the image (see
+	 * {@link RGBAColor#RGBAColor(int)}) row by row or {@code null} if the
+	 * image is not {@link #isPacked() packed}.
+	 */
+	public final int[] argb;
 
 	/**
 	 * Create an Abstract Image.
@@ -35,5 +45,53 @@ public final class AbstractImage {
 		this.height = height;
 		this.width = width;
 		this.pixels = pixels;
+		this.argb = null;
+	}
+
+	/**
+	 * Create a packed Abstract Image. The array will not be copied.
+	 *
+	 * @param height
+	 *            the height
+	 * @param width
+	 *            the width
+	 * @param argb
+	 *            the packed ARGB pixels
+	 */
+	public AbstractImage(int height, int width, int[] argb) {
+		this.height = height;
+		this.width = width;
+		this.pixels = null;
+		this.argb = argb;
+	}
+
+	/**
+	 * Indicates whether the pixels are stored as packed ARGB ints.
+	 *
+	 * @return {@code true} if {@link #argb} shall be used, {@code false} if
+	 *         {@link #pixels} shall be used
+	 */
+	public boolean isPacked() {
+		return this.argb != null;
+	}
+
+	/**
+	 * Get this image with RGBA bytes.
+	 *
+	 * @return this image or a converted copy if this image is packed
+	 */
+	public AbstractImage toRGBA() {
+		if (!this.isPacked()) {
+			return this;
+		}
+		byte[] rgba = new byte[4 * this.argb.length];
+		for (int i = 0, j = 0; i < this.argb.length; i++, j += 4) {
+			int color = this.argb[i];
+			rgba[j] = (byte) (color >> 16);
+			rgba[j + 1] = (byte) (color >> 8);
+			rgba[j + 2] = (byte) color;
+			rgba[j + 3] = (byte) (color >> 24);
+		}
+		return new AbstractImage(this.height, this.width, rgba);
 	}
 }
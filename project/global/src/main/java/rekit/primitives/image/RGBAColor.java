@@ -77,6 +77,16 @@ public final class RGBAColor implements Cloneable, Operable<RGBAColor> {
 		this.blue = (color) & 0xFF;
 	}
 
+	/**
+	 * Get the int coded ARGB color.
+	 *
+	 * @return the ARGB color
+	 * @see #RGBAColor(int)
+	 */
+	public int toARGB() {
+		return this.alpha << 24 | this.red << 16 | this.green << 8 | this.blue;
+	}
+
 	/**
 	 * Darken the color.
 	 *
@@ -1,11 +1,11 @@
 package rekit.primitives.time;
 
-import rekit.config.GameConf;
 import rekit.core.GameTime;
-import rekit.util.ThreadUtils;
 
 /**
- * Data class that holds an duration time.
+ * Data class that holds an duration time. The timer is a deadline of the game
+ * time of the logic ticks ({@link GameTime#getTickTime()}), so neither the
+ * time left nor the progress have to be updated by the owner of the timer.
  *
  * @author Angelo Aracri
  * 
@@ -15,15 +15,11 @@ public final class Timer {
 	/**
 	 * The duration in millis.
 	 */
-	private long duration;
+	private final long duration;
 	/**
-	 * The time left millis.
+	 * The time the timer is up (see {@link GameTime#getTickTime()}).
 	 */
-	private long timeLeft;
-	/**
-	 * The last time {@link #logicLoop()} was invoked.
-	 */
-	private long lastTime = GameTime.getTime();
+	private long deadline;
 
 	/**
 	 * Create a TimeDependency by duration time.
@@ -33,27 +29,7 @@ public final class Timer {
 	 */
 	public Timer(long duration) {
 		this.duration = duration;
-		this.timeLeft = duration;
-	}
-
-	/**
-	 * This method shall be invoked by the logic every
-	 * {@link GameConf#LOGIC_DELTA} ms.
-	 */
-	public void logicLoop() {
-		long now = GameTime.getTime();
-		this.removeTime(now - this.lastTime);
-		this.lastTime = now;
-	}
-
-	/**
-	 * Remove some time.
-	 *
-	 * @param deltaTime
-	 *            the time millis
-	 */
-	private void removeTime(long deltaTime) {
-		this.timeLeft -= deltaTime;
+		this.deadline = GameTime.getTickTime() + duration;
 	}
 
 	/**
@@ -62,14 +38,15 @@ public final class Timer {
 	 * @return {@code true} if time is up; {@code false} otherwise
 	 */
 	public boolean timeUp() {
-		return this.timeLeft <= 0;
+		return GameTime.getTickTime() >= this.deadline;
 	}
 
 	/**
-	 * Reset the time.
+	 * Reset the time. If the time is up, the next period starts at the
+	 * deadline (so that periodic timers do not drift).
 	 */
 	public void reset() {
-		this.timeLeft = this.timeUp() ? this.duration + this.timeLeft : this.duration;
+		this.deadline = this.timeUp() ? this.deadline + this.duration : GameTime.getTickTime() + this.duration;
 	}
 
 	/**
@@ -78,48 +55,25 @@ public final class Timer {
 	 * @return percentage as float in [0,1]
 	 */
 	public float getProgress() {
-		return this.timeUp() ? 1 : 1 - ((1F * this.timeLeft) / this.duration);
-	}
-
-	/**
-	 * Subtract an offset at beginning.
-	 *
-	 * @param offset
-	 *            the offset
-	 */
-	public void offset(long offset) {
-		this.removeTime(offset);
+		return this.timeUp() ? 1 : 1 - ((1F * this.getTimeLeft()) / this.duration);
 	}
 
 	/**
-	 * This method can be used instead of {@link ThreadUtils#sleep(long)} if
-	 * {@link GameTime#pause()} shall take effect.<br>
-	 * <b>Be careful: If game is paused, this method will cause endless
-	 * waiting</b>
+	 * Get the time left.
 	 *
-	 * @param offset
-	 *            the time to wait in millis
+	 * @return the time left in millis (negative if the time is up)
 	 */
-	public static void sleep(long offset) {
-		Timer t = new Timer(offset);
-		while (!t.timeUp()) {
-			t.logicLoop();
-			ThreadUtils.sleep(GameConf.LOGIC_DELTA);
-		}
+	public long getTimeLeft() {
+		return this.deadline - GameTime.getTickTime();
 	}
 
 	/**
-	 * This method can be used instead to execute a job after a specified time.
+	 * Subtract an offset at beginning.
 	 *
 	 * @param offset
-	 *            the time to wait in millis
-	 * @param r
-	 *            the job
+	 *            the offset
 	 */
-	public static void execute(int offset, Runnable r) {
-		ThreadUtils.runDaemon("" + r, () -> {
-			Timer.sleep(offset);
-			r.run();
-		});
+	public void offset(long offset) {
+		this.deadline -= offset;
 	}
 }
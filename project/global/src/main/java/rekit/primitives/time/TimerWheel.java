@@ -0,0 +1,364 @@
+package rekit.primitives.time;
+
+/**
+ * This class realizes a hierarchical timer wheel: actions will be registered
+ * with a deadline (game time) and executed as soon as the wheel has been
+ * advanced beyond their deadline (see {@link #advance(long)}). The wheel
+ * consists of {@value #LEVELS} levels of {@value #SLOTS} slots each, where a
+ * slot of level n covers {@value #SLOTS}<sup>n</sup> ticks. Entries of higher
+ * levels will be moved to lower levels as soon as their slot is reached, so
+ * that advancing the wheel only touches the expired entries (and no timer has
+ * to poll the time).<br>
+ * The wheel shall only be used by one thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class TimerWheel {
+	/**
+	 * The amount of bits of the slot index.
+	 */
+	private static final int BITS = 6;
+	/**
+	 * The amount of slots per level.
+	 */
+	private static final int SLOTS = 1 << TimerWheel.BITS;
+	/**
+	 * The mask to map a tick to a slot.
+	 */
+	private static final int MASK = TimerWheel.SLOTS - 1;
+	/**
+	 * The amount of levels.
+	 */
+	private static final int LEVELS = 4;
+	/**
+	 * The bucket of all entries which are already due at registration.
+	 */
+	private static final int DUE = TimerWheel.LEVELS * TimerWheel.SLOTS;
+	/**
+	 * The bucket of an entry which is not pending.
+	 */
+	private static final int NONE = -1;
+	/**
+	 * The bucket of an entry whose list has been detached for execution.
+	 */
+	private static final int DETACHED = -2;
+
+	/**
+	 * The length of one tick in millis.
+	 */
+	private final long resolution;
+	/**
+	 * The heads of the lists of all buckets (level * {@link #SLOTS} + slot and
+	 * {@link #DUE}).
+	 */
+	private final Timeout[] buckets = new Timeout[TimerWheel.DUE + 1];
+	/**
+	 * The current tick.
+	 */
+	private long current;
+	/**
+	 * The amount of pending entries.
+	 */
+	private int size;
+
+	/**
+	 * Create a new timer wheel.
+	 *
+	 * @param resolution
+	 *            the length of one tick in millis (e.g. the logic delta)
+	 * @param now
+	 *            the current time
+	 */
+	public TimerWheel(long resolution, long now) {
+		if (resolution <= 0) {
+			throw new IllegalArgumentException("Resolution has to be positive: " + resolution);
+		}
+		this.resolution = resolution;
+		this.current = Math.floorDiv(now, resolution);
+	}
+
+	/**
+	 * Register an action.
+	 *
+	 * @param deadline
+	 *            the time (game time) the action shall be executed at
+	 * @param action
+	 *            the action
+	 * @return the handle to cancel the action
+	 */
+	public Timeout schedule(long deadline, Runnable action) {
+		Timeout timeout = new Timeout(this, deadline, action);
+		// the first tick which is not before the deadline
+		timeout.tick = Math.floorDiv(deadline + this.resolution - 1, this.resolution);
+		this.insert(timeout);
+		this.size++;
+		return timeout;
+	}
+
+	/**
+	 * Advance the wheel to a time and execute all actions whose deadline has
+	 * been reached (in order of their ticks). Actions which will be registered
+	 * by an executed action for a deadline that has already been reached will
+	 * be executed by the next advance.
+	 *
+	 * @param now
+	 *            the current time
+	 * @return the amount of executed actions
+	 */
+	public int advance(long now) {
+		long target = Math.floorDiv(now, this.resolution);
+		int fired = this.fire(this.detach(TimerWheel.DUE));
+		if (this.size == 0) {
+			this.current = Math.max(this.current, target);
+			return fired;
+		}
+		while (this.current < target) {
+			this.current++;
+			this.cascade();
+			fired += this.fire(this.detach((int) (this.current & TimerWheel.MASK)));
+		}
+		return fired;
+	}
+
+	/**
+	 * Remove all entries and reset the wheel to a time.
+	 *
+	 * @param now
+	 *            the current time
+	 */
+	public void clear(long now) {
+		for (int bucket = 0; bucket < this.buckets.length; bucket++) {
+			Timeout timeout = this.detach(bucket);
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.bucket = TimerWheel.NONE;
+				timeout.next = null;
+				timeout = next;
+			}
+		}
+		this.size = 0;
+		this.current = Math.floorDiv(now, this.resolution);
+	}
+
+	/**
+	 * Get the amount of pending entries.
+	 *
+	 * @return the amount of pending entries
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Move the entries of all higher level slots which have been reached by
+	 * the current tick to the lower levels.
+	 */
+	private void cascade() {
+		for (int level = 1; level < TimerWheel.LEVELS; level++) {
+			int shift = TimerWheel.BITS * level;
+			if ((this.current & ((1L << shift) - 1)) != 0) {
+				return;
+			}
+			Timeout timeout = this.detach(level * TimerWheel.SLOTS + (int) ((this.current >> shift) & TimerWheel.MASK));
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				timeout.next = null;
+				if (timeout.tick == this.current) {
+					// will be executed right after the cascade
+					this.link(timeout, (int) (this.current & TimerWheel.MASK));
+				} else {
+					this.insert(timeout);
+				}
+				timeout = next;
+			}
+		}
+	}
+
+	/**
+	 * Execute all actions of a detached list (except the cancelled ones).
+	 *
+	 * @param timeout
+	 *            the head of the list
+	 * @return the amount of executed actions
+	 */
+	private int fire(Timeout timeout) {
+		int fired = 0;
+		while (timeout != null) {
+			Timeout next = timeout.next;
+			timeout.next = null;
+			if (timeout.bucket == TimerWheel.DETACHED) {
+				timeout.bucket = TimerWheel.NONE;
+				this.size--;
+				fired++;
+				timeout.action.run();
+			}
+			timeout = next;
+		}
+		return fired;
+	}
+
+	/**
+	 * Insert an entry to the bucket which matches its tick. Entries whose tick
+	 * has already been reached will be executed with the next advance.
+	 *
+	 * @param timeout
+	 *            the entry
+	 */
+	private void insert(Timeout timeout) {
+		long delta = timeout.tick - this.current;
+		if (delta <= 0) {
+			this.link(timeout, TimerWheel.DUE);
+			return;
+		}
+		int level = 0;
+		while (level < TimerWheel.LEVELS - 1 && delta >= 1L << (TimerWheel.BITS * (level + 1))) {
+			level++;
+		}
+		// deadlines beyond the range of the wheel will be cascaded again
+		long max = (1L << (TimerWheel.BITS * TimerWheel.LEVELS)) - 1;
+		long tick = delta <= max ? timeout.tick : this.current + max;
+		this.link(timeout, level * TimerWheel.SLOTS + (int) ((tick >> (TimerWheel.BITS * level)) & TimerWheel.MASK));
+	}
+
+	/**
+	 * Add an entry to a bucket.
+	 *
+	 * @param timeout
+	 *            the entry
+	 * @param bucket
+	 *            the bucket
+	 */
+	private void link(Timeout timeout, int bucket) {
+		Timeout head = this.buckets[bucket];
+		timeout.bucket = bucket;
+		timeout.prev = null;
+		timeout.next = head;
+		if (head != null) {
+			head.prev = timeout;
+		}
+		this.buckets[bucket] = timeout;
+	}
+
+	/**
+	 * Detach the list of a bucket. All entries of the list are still pending
+	 * until they will be executed or inserted again.
+	 *
+	 * @param bucket
+	 *            the bucket
+	 * @return the head of the list
+	 */
+	private Timeout detach(int bucket) {
+		Timeout head = this.buckets[bucket];
+		this.buckets[bucket] = null;
+		for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+			timeout.bucket = TimerWheel.DETACHED;
+			timeout.prev = null;
+		}
+		return head;
+	}
+
+	/**
+	 * Remove an entry from its bucket.
+	 *
+	 * @param timeout
+	 *            the entry
+	 * @return {@code true} if removed, {@code false} if it was not pending
+	 */
+	private boolean remove(Timeout timeout) {
+		if (timeout.bucket == TimerWheel.NONE) {
+			return false;
+		}
+		if (timeout.bucket == TimerWheel.DETACHED) {
+			// will be skipped by fire
+			timeout.bucket = TimerWheel.NONE;
+			this.size--;
+			return true;
+		}
+		if (timeout.prev == null) {
+			this.buckets[timeout.bucket] = timeout.next;
+		} else {
+			timeout.prev.next = timeout.next;
+		}
+		if (timeout.next != null) {
+			timeout.next.prev = timeout.prev;
+		}
+		timeout.bucket = TimerWheel.NONE;
+		timeout.prev = null;
+		timeout.next = null;
+		this.size--;
+		return true;
+	}
+
+	/**
+	 * A registered action of a {@link TimerWheel}.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	public static final class Timeout {
+		/**
+		 * The wheel.
+		 */
+		private final TimerWheel wheel;
+		/**
+		 * The deadline.
+		 */
+		private final long deadline;
+		/**
+		 * The action.
+		 */
+		private final Runnable action;
+		/**
+		 * The tick of the deadline.
+		 */
+		private long tick;
+		/**
+		 * The bucket or {@link TimerWheel#NONE} if not pending.
+		 */
+		private int bucket = TimerWheel.NONE;
+		/**
+		 * The previous entry of the bucket.
+		 */
+		private Timeout prev;
+		/**
+		 * The next entry of the bucket.
+		 */
+		private Timeout next;
+
+		private Timeout(TimerWheel wheel, long deadline, Runnable action) {
+			this.wheel = wheel;
+			this.deadline = deadline;
+			this.action = action;
+		}
+
+		/**
+		 * Get the deadline.
+		 *
+		 * @return the deadline (game time)
+		 */
+		public long getDeadline() {
+			return this.deadline;
+		}
+
+		/**
+		 * Indicates whether the action is still pending.
+		 *
+		 * @return {@code true} if pending, {@code false} if executed or
+		 *         cancelled
+		 */
+		public boolean isPending() {
+			return this.bucket != TimerWheel.NONE;
+		}
+
+		/**
+		 * Cancel the action.
+		 *
+		 * @return {@code true} if cancelled, {@code false} if it was not
+		 *         pending
+		 */
+		public boolean cancel() {
+			return this.wheel.remove(this);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package rekit.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import rekit.config.GameConf;
+
+/**
+ * This class represents the class index which is generated at compile time by
+ * the {@code rekit.processor.IndexProcessor} (one index per module).
+ *
+ * @author Dominik Fuchss
+ * @see ReflectUtils
+ *
+ */
+final class ClassIndex {
+	/**
+	 * The location of the index files.
+	 */
+	static final String INDEX_FILE = "META-INF/rekit.index";
+
+	/**
+	 * Super type / Annotation -&gt; names of indexed classes.
+	 */
+	private final Map<String, Set<String>> classes = new HashMap<>();
+
+	private ClassIndex() {
+	}
+
+	/**
+	 * Read all index files visible for a class loader.
+	 *
+	 * @param loader
+	 *            the class loader
+	 * @return the index or {@code null} if no index exists
+	 */
+	static ClassIndex read(ClassLoader loader) {
+		Enumeration<URL> files;
+		try {
+			files = loader.getResources(ClassIndex.INDEX_FILE);
+		} catch (IOException e) {
+			GameConf.GAME_LOGGER.error("Cannot read class index: " + e.getMessage());
+			return null;
+		}
+		if (!files.hasMoreElements()) {
+			return null;
+		}
+		ClassIndex index = new ClassIndex();
+		while (files.hasMoreElements()) {
+			URL file = files.nextElement();
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.openStream(), StandardCharsets.UTF_8))) {
+				reader.lines().forEach(index::add);
+			} catch (IOException e) {
+				GameConf.GAME_LOGGER.error("Cannot read class index " + file + ": " + e.getMessage());
+				return null;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Add a line of an index file.
+	 *
+	 * @param line
+	 *            the line (name, super types and annotations)
+	 */
+	private void add(String line) {
+		String[] parts = line.split("\t", -1);
+		if (parts.length != 3) {
+			return;
+		}
+		for (int i = 1; i < parts.length; i++) {
+			for (String key : parts[i].split(",")) {
+				if (!key.isEmpty()) {
+					this.classes.computeIfAbsent(key, k -> new HashSet<>()).add(parts[0]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the names of all indexed classes which are sub types of a type or
+	 * are annotated with an annotation.
+	 *
+	 * @param type
+	 *            the super type or annotation
+	 * @return the names of the classes
+	 */
+	Set<String> get(Class<?> type) {
+		return this.classes.getOrDefault(type.getName(), Collections.emptySet());
+	}
+}
@@ -0,0 +1,147 @@
+package rekit.util;
+
+import java.lang.annotation.Annotation;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.reflections.Reflections;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import rekit.config.GameConf;
+
+/**
+ * This class represents the result of a scan of a class loader for a search
+ * path. The scan uses the {@link ClassIndex}; only URLs which are not covered
+ * by the index are scanned with {@link Reflections}.
+ *
+ * @author Dominik Fuchss
+ * @see ReflectUtils
+ *
+ */
+final class ClassScan {
+	private final String searchPath;
+	private final ClassLoader loader;
+	/**
+	 * The class index or {@code null} if none exists.
+	 */
+	private final ClassIndex index;
+	/**
+	 * The scan of all unindexed URLs (or of the whole classpath if
+	 * {@link #index} is {@code null}) or {@code null} if nothing to scan.
+	 */
+	private final Reflections reflections;
+
+	private ClassScan(String searchPath, ClassLoader loader, ClassIndex index, Reflections reflections) {
+		this.searchPath = searchPath;
+		this.loader = loader;
+		this.index = index;
+		this.reflections = reflections;
+	}
+
+	/**
+	 * Scan a class loader.
+	 *
+	 * @param searchPath
+	 *            the search path (e.g. java.lang)
+	 * @param loader
+	 *            the class loader
+	 * @return the scan
+	 */
+	static ClassScan create(String searchPath, ClassLoader loader) {
+		long start = System.nanoTime();
+		ClassIndex index = ClassIndex.read(loader);
+		Reflections reflections = index == null ? new Reflections(searchPath, ClasspathHelper.classLoaders(loader)) : ClassScan.scanUnindexed(searchPath, loader);
+		GameConf.GAME_LOGGER.debug("Class scan of " + searchPath + " (" + (index == null ? "no index" : "index") + (reflections == null ? "" : " + reflections")
+				+ ") took " + (System.nanoTime() - start) / 1_000_000 + " ms");
+		return new ClassScan(searchPath, loader, index, reflections);
+	}
+
+	/**
+	 * Scan the URLs which are not covered by the class index: the own URLs of
+	 * an {@link URLClassLoader} (e.g. the mods in ModManager.SYSLOADER).
+	 *
+	 * @param searchPath
+	 *            the search path
+	 * @param loader
+	 *            the class loader
+	 * @return the scan or {@code null} if nothing to scan
+	 */
+	private static Reflections scanUnindexed(String searchPath, ClassLoader loader) {
+		if (!(loader instanceof URLClassLoader) || ((URLClassLoader) loader).getURLs().length == 0) {
+			return null;
+		}
+		return new Reflections(new ConfigurationBuilder() //
+				.setUrls(((URLClassLoader) loader).getURLs()) //
+				.addClassLoader(loader) //
+				.filterInputsBy(new FilterBuilder().includePackage(searchPath)) //
+				.setScanners(new SubTypesScanner(), new TypeAnnotationsScanner()));
+	}
+
+	/**
+	 * Get all sub types of a type.
+	 *
+	 * @param type
+	 *            the type
+	 * @param <T>
+	 *            the type
+	 * @return all sub types
+	 */
+	<T> Set<Class<? extends T>> getSubTypesOf(Class<T> type) {
+		Set<Class<? extends T>> classes = new HashSet<>();
+		if (this.index != null) {
+			for (Class<?> clazz : this.load(this.index.get(type))) {
+				classes.add(clazz.asSubclass(type));
+			}
+		}
+		if (this.reflections != null) {
+			classes.addAll(this.reflections.getSubTypesOf(type));
+		}
+		return classes;
+	}
+
+	/**
+	 * Get all types which are annotated (directly) with an annotation.
+	 *
+	 * @param annotation
+	 *            the annotation
+	 * @return all annotated types
+	 */
+	Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation) {
+		Set<Class<?>> classes = new HashSet<>();
+		if (this.index != null) {
+			classes.addAll(this.load(this.index.get(annotation)));
+		}
+		if (this.reflections != null) {
+			classes.addAll(this.reflections.getTypesAnnotatedWith(annotation, true));
+		}
+		return classes;
+	}
+
+	/**
+	 * Load classes by name.
+	 *
+	 * @param names
+	 *            the names of the classes (classes outside the search path
+	 *            will be ignored)
+	 * @return the loaded classes
+	 */
+	private Set<Class<?>> load(Set<String> names) {
+		Set<Class<?>> classes = new HashSet<>();
+		for (String name : names) {
+			if (!name.startsWith(this.searchPath + ".")) {
+				continue;
+			}
+			try {
+				classes.add(Class.forName(name, false, this.loader));
+			} catch (ClassNotFoundException | LinkageError e) {
+				GameConf.GAME_LOGGER.debug(name + " not loaded !");
+			}
+		}
+		return classes;
+	}
+}
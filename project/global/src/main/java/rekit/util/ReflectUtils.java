@@ -7,11 +7,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.net.URLClassLoader;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
-
-import org.reflections.Reflections;
-import org.reflections.util.ClasspathHelper;
+import java.util.concurrent.CompletableFuture;
 
 import rekit.config.GameConf;
 
@@ -29,6 +30,11 @@ public final class ReflectUtils {
 	private ReflectUtils() {
 	}
 
+	/**
+	 * The scans per class loader and search path.
+	 */
+	private static final Map<ClassLoader, Map<String, CompletableFuture<ClassScan>>> SCANS = new HashMap<>();
+
 	/**
 	 * Load all implementations that shall be loaded (see {@link LoadMe}) of a
 	 * class by search path (-&gt; classpath). <br>
@@ -66,6 +72,11 @@ public final class ReflectUtils {
 
 	/**
 	 * Get all implementations of a class by search path (-&gt; classpath) .<br>
+	 * The classes are taken from the class index (see {@link ClassIndex}); only
+	 * the own URLs of an {@link URLClassLoader} (e.g. mods) are scanned. If no
+	 * index exists, the whole classpath will be scanned. The scan is performed
+	 * once per class loader and search path (see
+	 * {@link #invalidate(ClassLoader)}).
 	 *
 	 * @param searchPath
 	 *            the search path (e.g. java.lang)
@@ -78,7 +89,7 @@ public final class ReflectUtils {
 	 * @return a set of the found classes
 	 */
 	public static <T> Set<Class<? extends T>> getClasses(String searchPath, ClassLoader loader, Class<T> type) {
-		return new Reflections(searchPath, ClasspathHelper.classLoaders(loader)).getSubTypesOf(type);
+		return ReflectUtils.scan(searchPath, loader).getSubTypesOf(type);
 	}
 
 	/**
@@ -93,7 +104,73 @@ public final class ReflectUtils {
 	 * @return a set of the found classes
 	 */
 	public static Set<Class<?>> getClassesAnnotated(String searchPath, Class<? extends Annotation> annotation) {
-		return new Reflections(searchPath).getTypesAnnotatedWith(annotation, true);
+		return ReflectUtils.getClassesAnnotated(searchPath, ReflectUtils.class.getClassLoader(), annotation);
+	}
+
+	/**
+	 * Get all classes which are annotated with ... by search path (-&gt;
+	 * classpath).<br>
+	 * No subtypes will be returned except if they are annotated too. See
+	 * {@link #getClasses(String, ClassLoader, Class)} for the usage of the
+	 * class index.
+	 *
+	 * @param searchPath
+	 *            the search path (e.g. java.lang)
+	 * @param loader
+	 *            the class loader
+	 * @param annotation
+	 *            the class annotation
+	 * @return a set of the found classes
+	 */
+	public static Set<Class<?>> getClassesAnnotated(String searchPath, ClassLoader loader, Class<? extends Annotation> annotation) {
+		return ReflectUtils.scan(searchPath, loader).getTypesAnnotatedWith(annotation);
+	}
+
+	/**
+	 * Drop all cached scans of a class loader (e.g. if the mods have changed).
+	 *
+	 * @param loader
+	 *            the class loader
+	 */
+	public static void invalidate(ClassLoader loader) {
+		synchronized (ReflectUtils.SCANS) {
+			ReflectUtils.SCANS.remove(loader);
+		}
+	}
+
+	/**
+	 * Get the (cached) scan of a class loader. If the scan is running, this
+	 * method waits for it.
+	 *
+	 * @param searchPath
+	 *            the search path
+	 * @param loader
+	 *            the class loader
+	 * @return the scan
+	 */
+	private static ClassScan scan(String searchPath, ClassLoader loader) {
+		CompletableFuture<ClassScan> scan;
+		boolean scanner = false;
+		synchronized (ReflectUtils.SCANS) {
+			Map<String, CompletableFuture<ClassScan>> scans = ReflectUtils.SCANS.computeIfAbsent(loader, l -> new HashMap<>());
+			scan = scans.get(searchPath);
+			if (scan == null) {
+				scan = new CompletableFuture<>();
+				scans.put(searchPath, scan);
+				scanner = true;
+			}
+		}
+		if (scanner) {
+			try {
+				scan.complete(ClassScan.create(searchPath, loader));
+			} catch (Throwable e) {
+				// also errors of broken mods (e.g. NoClassDefFoundError), so
+				// that waiting threads do not block forever
+				ReflectUtils.invalidate(loader);
+				scan.completeExceptionally(e);
+			}
+		}
+		return scan.join();
 	}
 
 	/**
@@ -0,0 +1,176 @@
+package rekit.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import rekit.config.GameConf;
+
+/**
+ * This class realizes a graph of named tasks with explicit dependencies. A task
+ * starts as soon as all its dependencies have finished; independent tasks run
+ * in parallel on a small pool of daemon threads. After {@link #run()} a timing
+ * report will be logged (debug).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class TaskGraph {
+	/**
+	 * The name of the graph (used for threads and report).
+	 */
+	private final String name;
+	/**
+	 * The amount of threads.
+	 */
+	private final int threads;
+	/**
+	 * All tasks (in order of addition).
+	 */
+	private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+	/**
+	 * Create a new graph.
+	 *
+	 * @param name
+	 *            the name of the graph
+	 * @param threads
+	 *            the amount of threads to use
+	 */
+	public TaskGraph(String name, int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("Threads must be positive: " + threads);
+		}
+		this.name = name;
+		this.threads = threads;
+	}
+
+	/**
+	 * Add a task. All dependencies have to be added before.
+	 *
+	 * @param task
+	 *            the name of the task
+	 * @param action
+	 *            the action of the task
+	 * @param dependencies
+	 *            the names of the tasks which have to be finished before
+	 */
+	public void add(String task, Runnable action, String... dependencies) {
+		if (this.tasks.containsKey(task)) {
+			throw new IllegalArgumentException("Task already defined: " + task);
+		}
+		for (String dependency : dependencies) {
+			if (!this.tasks.containsKey(dependency)) {
+				throw new IllegalArgumentException("Unknown dependency of " + task + ": " + dependency);
+			}
+		}
+		this.tasks.put(task, new Task(task, action, dependencies));
+	}
+
+	/**
+	 * Run all tasks and wait for them.
+	 *
+	 * @throws RuntimeException
+	 *             the failure of the first failed task (all tasks which depend
+	 *             on it will not be executed)
+	 */
+	public void run() {
+		AtomicInteger threadNo = new AtomicInteger();
+		ExecutorService pool = Executors.newFixedThreadPool(this.threads, r -> {
+			Thread t = new Thread(r, this.name + "-" + threadNo.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		long start = System.nanoTime();
+		try {
+			List<CompletableFuture<Void>> all = new ArrayList<>();
+			for (Task task : this.tasks.values()) {
+				CompletableFuture<?>[] dependencies = new CompletableFuture<?>[task.dependencies.length];
+				for (int i = 0; i < dependencies.length; i++) {
+					dependencies[i] = this.tasks.get(task.dependencies[i]).future;
+				}
+				task.future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> task.execute(start), pool);
+				all.add(task.future);
+			}
+			CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+		} finally {
+			pool.shutdown();
+			this.report(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Log the timing report.
+	 *
+	 * @param total
+	 *            the total time in ns
+	 */
+	private void report(long total) {
+		StringBuilder report = new StringBuilder(this.name).append(" took ").append(total / 1_000_000).append(" ms (").append(this.threads).append(" threads)");
+		for (Task task : this.tasks.values()) {
+			report.append("\n\t").append(task.name);
+			if (task.thread == null) {
+				report.append(": not executed");
+			} else {
+				report.append(": +").append(task.begin / 1_000_000).append(" ms, took ").append(task.duration / 1_000_000).append(" ms on ").append(task.thread);
+			}
+		}
+		GameConf.GAME_LOGGER.debug(report.toString());
+	}
+
+	/**
+	 * A node of the graph.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class Task {
+		private final String name;
+		private final Runnable action;
+		private final String[] dependencies;
+		private CompletableFuture<Void> future;
+		/**
+		 * Begin of execution (relative to start of graph) in ns.
+		 */
+		private volatile long begin;
+		/**
+		 * Duration of execution in ns.
+		 */
+		private volatile long duration;
+		/**
+		 * The executing thread or {@code null} if not executed.
+		 */
+		private volatile String thread;
+
+		private Task(String name, Runnable action, String[] dependencies) {
+			this.name = name;
+			this.action = action;
+			this.dependencies = dependencies;
+		}
+
+		/**
+		 * Execute the task and measure it.
+		 *
+		 * @param start
+		 *            the start of the graph in ns
+		 */
+		private void execute(long start) {
+			long before = System.nanoTime();
+			this.begin = before - start;
+			this.thread = Thread.currentThread().getName();
+			try {
+				this.action.run();
+			} finally {
+				this.duration = System.nanoTime() - before;
+			}
+		}
+	}
+}
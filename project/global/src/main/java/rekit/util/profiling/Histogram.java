@@ -0,0 +1,180 @@
+package rekit.util.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class realizes a lock-free histogram of durations (in nanos) with
+ * logarithmic buckets (similar to an HDR histogram): each power of two is
+ * divided into {@value #SUB} linear sub-buckets, so that all values from 1 ns
+ * to ~36 min will be recorded with a relative error below 7 %.<br>
+ * Values may be recorded by any thread. Reading while recording is allowed,
+ * but the results may not belong to exactly one point in time.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class Histogram {
+	/**
+	 * The amount of bits of the sub-bucket index.
+	 */
+	private static final int SUB_BITS = 4;
+	/**
+	 * The amount of sub-buckets per power of two.
+	 */
+	private static final int SUB = 1 << Histogram.SUB_BITS;
+	/**
+	 * The highest power of two which will be recorded exactly (larger values
+	 * will be put to the last bucket).
+	 */
+	private static final int MAX_EXP = 40;
+	/**
+	 * The amount of buckets.
+	 */
+	private static final int BUCKETS = Histogram.SUB + (Histogram.MAX_EXP - Histogram.SUB_BITS + 1) * Histogram.SUB;
+
+	/**
+	 * The counts of all buckets.
+	 */
+	private final AtomicLongArray counts = new AtomicLongArray(Histogram.BUCKETS);
+	/**
+	 * The amount of recorded values.
+	 */
+	private final AtomicLong count = new AtomicLong();
+	/**
+	 * The sum of all recorded values.
+	 */
+	private final AtomicLong sum = new AtomicLong();
+	/**
+	 * The max. recorded value.
+	 */
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Record a value.
+	 *
+	 * @param value
+	 *            the value in nanos (negative values will be recorded as 0)
+	 */
+	public void record(long value) {
+		long v = Math.max(0, value);
+		this.counts.incrementAndGet(Histogram.index(v));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(v);
+		long current;
+		while (v > (current = this.max.get()) && !this.max.compareAndSet(current, v)) {
+			// retry
+		}
+	}
+
+	/**
+	 * Get the amount of recorded values.
+	 *
+	 * @return the amount of recorded values
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * Get the sum of all recorded values.
+	 *
+	 * @return the sum in nanos
+	 */
+	public long getSum() {
+		return this.sum.get();
+	}
+
+	/**
+	 * Get the max. recorded value.
+	 *
+	 * @return the max. value in nanos
+	 */
+	public long getMax() {
+		return this.max.get();
+	}
+
+	/**
+	 * Get the mean of all recorded values.
+	 *
+	 * @return the mean in nanos or 0 if nothing has been recorded
+	 */
+	public long getMean() {
+		long n = this.count.get();
+		return n == 0 ? 0 : this.sum.get() / n;
+	}
+
+	/**
+	 * Get the value at a percentile (the highest value of the bucket which
+	 * contains the percentile).
+	 *
+	 * @param percentile
+	 *            the percentile in [0,100]
+	 * @return the value in nanos or 0 if nothing has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < Histogram.BUCKETS; i++) {
+			total += this.counts.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < Histogram.BUCKETS; i++) {
+			seen += this.counts.get(i);
+			if (seen >= rank) {
+				return Math.min(Histogram.highestValue(i), this.max.get());
+			}
+		}
+		return this.max.get();
+	}
+
+	/**
+	 * Remove all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < Histogram.BUCKETS; i++) {
+			this.counts.set(i, 0);
+		}
+		this.count.set(0);
+		this.sum.set(0);
+		this.max.set(0);
+	}
+
+	/**
+	 * Get the bucket of a value.
+	 *
+	 * @param value
+	 *            the value (not negative)
+	 * @return the index of the bucket
+	 */
+	private static int index(long value) {
+		if (value < Histogram.SUB) {
+			return (int) value;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		if (exp > Histogram.MAX_EXP) {
+			return Histogram.BUCKETS - 1;
+		}
+		int shift = exp - Histogram.SUB_BITS;
+		return Histogram.SUB + shift * Histogram.SUB + (int) ((value >>> shift) - Histogram.SUB);
+	}
+
+	/**
+	 * Get the highest value of a bucket.
+	 *
+	 * @param index
+	 *            the index of the bucket
+	 * @return the highest value which will be put to the bucket
+	 */
+	private static long highestValue(int index) {
+		if (index < Histogram.SUB) {
+			return index;
+		}
+		int shift = (index - Histogram.SUB) / Histogram.SUB;
+		long sub = (index - Histogram.SUB) % Histogram.SUB + Histogram.SUB;
+		return ((sub + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,206 @@
+package rekit.util.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * This class realizes the tick profiler: the durations (in nanos) of the
+ * phases of each logic tick and of each rendered frame will be recorded in one
+ * {@link Histogram} per {@link Phase}. A phase will be measured by
+ * {@link #start()} and {@link #lap(Phase, long)}, so that consecutive phases
+ * need only one clock read each:
+ *
+ * <pre>
+ * long time = Profiler.start();
+ * this.first();
+ * time = Profiler.lap(Phase.A, time);
+ * this.second();
+ * Profiler.lap(Phase.B, time);
+ * </pre>
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class Profiler {
+	/**
+	 * Prevent instantiation.
+	 */
+	private Profiler() {
+	}
+
+	/**
+	 * The histograms (by {@link Phase#ordinal()}).
+	 */
+	private static final Histogram[] HISTOGRAMS = new Histogram[Phase.values().length];
+
+	static {
+		for (int i = 0; i < Profiler.HISTOGRAMS.length; i++) {
+			Profiler.HISTOGRAMS[i] = new Histogram();
+		}
+	}
+
+	/**
+	 * Start the measurement of a phase.
+	 *
+	 * @return the start time (see {@link System#nanoTime()})
+	 */
+	public static long start() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Finish the measurement of a phase and record its duration.
+	 *
+	 * @param phase
+	 *            the phase
+	 * @param start
+	 *            the start time of the phase (see {@link #start()})
+	 * @return the current time, which may be used as start time of the next
+	 *         phase
+	 */
+	public static long lap(Phase phase, long start) {
+		long now = System.nanoTime();
+		Profiler.HISTOGRAMS[phase.ordinal()].record(now - start);
+		return now;
+	}
+
+	/**
+	 * Get the histogram of a phase.
+	 *
+	 * @param phase
+	 *            the phase
+	 * @return the histogram
+	 */
+	public static Histogram get(Phase phase) {
+		return Profiler.HISTOGRAMS[phase.ordinal()];
+	}
+
+	/**
+	 * Remove all recorded durations.
+	 */
+	public static void reset() {
+		for (Histogram histogram : Profiler.HISTOGRAMS) {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Write a summary of all phases as CSV (one line per phase; all durations
+	 * in nanos).
+	 *
+	 * @param out
+	 *            the target
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public static void writeCsv(Appendable out) throws IOException {
+		out.append("phase,count,mean_ns,p50_ns,p90_ns,p99_ns,p999_ns,max_ns\n");
+		for (Phase phase : Phase.values()) {
+			Histogram h = Profiler.get(phase);
+			out.append(phase.getName()).append(',').append(String.valueOf(h.getCount())).append(',').append(String.valueOf(h.getMean()));
+			for (double percentile : new double[] { 50, 90, 99, 99.9 }) {
+				out.append(',').append(String.valueOf(h.getValueAtPercentile(percentile)));
+			}
+			out.append(',').append(String.valueOf(h.getMax())).append('\n');
+		}
+	}
+
+	/**
+	 * Write a summary of all phases as CSV file (see
+	 * {@link #writeCsv(Appendable)}) to a directory.
+	 *
+	 * @param dir
+	 *            the directory
+	 * @return the file
+	 * @throws IOException
+	 *             if writing fails
+	 */
+	public static File dump(File dir) throws IOException {
+		dir.mkdirs();
+		File file = new File(dir, "profile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv");
+		try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			Profiler.writeCsv(out);
+		}
+		return file;
+	}
+
+	/**
+	 * This enum defines all measured phases.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	public enum Phase {
+		/**
+		 * A whole logic tick (input, scene and filter).
+		 */
+		TICK("tick"),
+		/**
+		 * Scene: logicLoopPre (e.g. level generation).
+		 */
+		LOGIC_PRE("logic.pre"),
+		/**
+		 * Scene: add the new game elements.
+		 */
+		LOGIC_ADD("logic.add"),
+		/**
+		 * Scene: logic of all game elements and the scheduler.
+		 */
+		LOGIC_ELEMENTS("logic.elements"),
+		/**
+		 * Scene: remove the deleted game elements.
+		 */
+		LOGIC_REMOVE("logic.remove"),
+		/**
+		 * Scene: logicLoopAfter (the collision checks of level scenes).
+		 */
+		LOGIC_COLLISIONS("logic.collisions"),
+		/**
+		 * Scene: logic of all gui elements.
+		 */
+		LOGIC_GUI("logic.gui"),
+		/**
+		 * A whole rendered frame.
+		 */
+		FRAME("frame"),
+		/**
+		 * View: update the filter.
+		 */
+		RENDER_FILTER("render.filter"),
+		/**
+		 * View: draw all game and gui elements.
+		 */
+		RENDER_ELEMENTS("render.elements"),
+		/**
+		 * View: draw the debug overlay.
+		 */
+		RENDER_DEBUG("render.debug"),
+		/**
+		 * View: show the buffer.
+		 */
+		RENDER_SHOW("render.show");
+
+		/**
+		 * The name of the phase.
+		 */
+		private final String name;
+
+		Phase(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Get the name of the phase.
+		 *
+		 * @return the name
+		 */
+		public String getName() {
+			return this.name;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one pass of collision checks of a level scene.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.Collisions")
+@Label("Collision Pass")
+@Category({ "ReKiT", "Logic" })
+@Description("One pass of collision checks of a level scene.")
+public final class CollisionEvent extends Event {
+	/**
+	 * The amount of checked (active, non-neutral) elements.
+	 */
+	@Label("Elements")
+	public int elements;
+	/**
+	 * The amount of checked element pairs.
+	 */
+	@Label("Pairs")
+	public long pairs;
+	/**
+	 * The amount of elements checked against the tile map.
+	 */
+	@Label("Tile Lookups")
+	public int tileLookups;
+}
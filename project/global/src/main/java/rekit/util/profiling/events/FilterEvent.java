@@ -0,0 +1,30 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one application of a filter to an image.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.Filter")
+@Label("Filter Application")
+@Category({ "ReKiT", "Render" })
+@Description("One application of a filter to an image.")
+public final class FilterEvent extends Event {
+	/**
+	 * The simple class name of the filter.
+	 */
+	@Label("Filter")
+	public String filter;
+	/**
+	 * The filtered image (path or atlas).
+	 */
+	@Label("Target")
+	public String target;
+}
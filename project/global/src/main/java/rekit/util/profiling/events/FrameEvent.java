@@ -0,0 +1,30 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one rendered frame of the view.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.Frame")
+@Label("Render Frame")
+@Category({ "ReKiT", "Render" })
+@Description("One rendered frame of the view.")
+public final class FrameEvent extends Event {
+	/**
+	 * The simple class name of the rendered scene.
+	 */
+	@Label("Scene")
+	public String scene;
+	/**
+	 * The amount of game elements of the scene.
+	 */
+	@Label("Elements")
+	public int elements;
+}
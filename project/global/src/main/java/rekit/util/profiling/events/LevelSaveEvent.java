@@ -0,0 +1,25 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one save of the level data (scores and progress).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.LevelSave")
+@Label("Level Save")
+@Category({ "ReKiT", "Persistence" })
+@Description("One save of the level data (scores and progress).")
+public final class LevelSaveEvent extends Event {
+	/**
+	 * The amount of saved levels.
+	 */
+	@Label("Levels")
+	public int levels;
+}
@@ -0,0 +1,30 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one switch of the scene of the game model (incl. initialization of the new scene).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.SceneSwitch")
+@Label("Scene Switch")
+@Category({ "ReKiT", "Logic" })
+@Description("One switch of the scene of the game model (incl. initialization of the new scene).")
+public final class SceneSwitchEvent extends Event {
+	/**
+	 * The simple class name of the previous scene.
+	 */
+	@Label("From")
+	public String from;
+	/**
+	 * The simple class name of the new scene.
+	 */
+	@Label("To")
+	public String to;
+}
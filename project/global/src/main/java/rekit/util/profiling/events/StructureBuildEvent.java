@@ -0,0 +1,35 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one build of a level structure.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.StructureBuild")
+@Label("Structure Build")
+@Category({ "ReKiT", "Logic" })
+@Description("One build of a level structure.")
+public final class StructureBuildEvent extends Event {
+	/**
+	 * The x position the structure has been built to.
+	 */
+	@Label("Level X")
+	public int levelX;
+	/**
+	 * The width of the structure incl. the gap.
+	 */
+	@Label("Width")
+	public int width;
+	/**
+	 * The height of the structure.
+	 */
+	@Label("Height")
+	public int height;
+}
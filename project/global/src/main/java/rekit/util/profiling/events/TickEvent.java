@@ -0,0 +1,30 @@
+package rekit.util.profiling.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event: one logic tick of the game model (input, scene and filter).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@Name("rekit.Tick")
+@Label("Logic Tick")
+@Category({ "ReKiT", "Logic" })
+@Description("One logic tick of the game model (input, scene and filter).")
+public final class TickEvent extends Event {
+	/**
+	 * The simple class name of the current scene.
+	 */
+	@Label("Scene")
+	public String scene;
+	/**
+	 * The amount of game elements of the scene.
+	 */
+	@Label("Elements")
+	public int elements;
+}
@@ -76,11 +76,6 @@ public abstract class State {
 	 *
 	 */
 	public void logicLoop() {
-
-		// long deltaTime = GameTime.getTime() - this.lastTime;
-		// this.lastTime += deltaTime;
-		this.timer.logicLoop();
-		// this.timer.removeTime(deltaTime);
 		if (this.timer.timeUp()) {
 			this.parent.nextState();
 		}
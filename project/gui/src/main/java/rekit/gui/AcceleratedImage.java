@@ -0,0 +1,121 @@
+package rekit.gui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+import rekit.config.GameConf;
+
+/**
+ * This class wraps an image as {@link VolatileImage} which is compatible with
+ * the {@link GraphicsConfiguration} of the drawing target (so that it can be
+ * accelerated). If the contents of the volatile image get lost (e.g. the
+ * surface has been lost), they will be restored from the source.<br>
+ * The image shall only be used by the render thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class AcceleratedImage {
+	/**
+	 * The source of the contents.
+	 */
+	private final Image source;
+	/**
+	 * The accelerated image or {@code null} if not (yet) created.
+	 */
+	private Image image;
+	/**
+	 * The configuration {@link #image} has been created for.
+	 */
+	private GraphicsConfiguration config;
+
+	/**
+	 * Create a new accelerated image.
+	 *
+	 * @param source
+	 *            the source of the contents
+	 */
+	AcceleratedImage(Image source) {
+		this.source = source;
+	}
+
+	/**
+	 * Get the image for drawing on a target. The image will be (re-)created or
+	 * restored if necessary.
+	 *
+	 * @param target
+	 *            the configuration of the target
+	 * @return the image
+	 */
+	Image get(GraphicsConfiguration target) {
+		if (this.image == null || this.config != target) {
+			this.create(target);
+		} else if (this.image instanceof VolatileImage) {
+			VolatileImage volatileImage = (VolatileImage) this.image;
+			int state = volatileImage.validate(target);
+			if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+				this.create(target);
+			} else if (state == VolatileImage.IMAGE_RESTORED || volatileImage.contentsLost()) {
+				this.restore();
+			}
+		}
+		return this.image;
+	}
+
+	/**
+	 * Create the image for a configuration. If no {@link VolatileImage} can be
+	 * created, a compatible managed image will be used.
+	 *
+	 * @param target
+	 *            the configuration of the target
+	 */
+	private void create(GraphicsConfiguration target) {
+		int w = this.source.getWidth(null);
+		int h = this.source.getHeight(null);
+		this.config = target;
+		try {
+			this.image = target.createCompatibleVolatileImage(w, h, Transparency.TRANSLUCENT);
+		} catch (RuntimeException e) {
+			GameConf.GAME_LOGGER.debug("No VolatileImage available: " + e.getMessage());
+			this.image = null;
+		}
+		if (this.image == null) {
+			this.image = AcceleratedImage.toCompatible(this.source, target);
+			return;
+		}
+		this.restore();
+	}
+
+	/**
+	 * Copy the contents of the source to the image.
+	 */
+	private void restore() {
+		Graphics2D graphics = (Graphics2D) this.image.getGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.drawImage(this.source, 0, 0, null);
+		graphics.dispose();
+	}
+
+	/**
+	 * Create a copy of an image which is compatible with a configuration.
+	 *
+	 * @param image
+	 *            the image
+	 * @param target
+	 *            the configuration of the target
+	 * @return the compatible copy
+	 */
+	static BufferedImage toCompatible(Image image, GraphicsConfiguration target) {
+		BufferedImage result = target.createCompatibleImage(image.getWidth(null), image.getHeight(null), Transparency.TRANSLUCENT);
+		Graphics2D graphics = result.createGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		graphics.drawImage(image, 0, 0, null);
+		graphics.dispose();
+		return result;
+	}
+}
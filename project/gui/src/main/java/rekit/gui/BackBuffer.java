@@ -0,0 +1,102 @@
+package rekit.gui;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.image.VolatileImage;
+
+import rekit.config.GameConf;
+
+/**
+ * This class realizes the internal render resolution: a frame will be rendered
+ * in logical pixels ({@link GameConf#PIXEL_W} x {@link GameConf#PIXEL_H}) to
+ * an off-screen image of {@link GameConf#RENDER_SCALE} times the logical size,
+ * which will be scaled to the window (keeping the aspect ratio) by one blit. If
+ * neither the scale nor the window require scaling, the frame will be rendered
+ * directly to the window.<br>
+ * The buffer shall only be used by the render thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class BackBuffer {
+	/**
+	 * The min. render scale.
+	 */
+	private static final float MIN_SCALE = 0.5F;
+	/**
+	 * The max. render scale.
+	 */
+	private static final float MAX_SCALE = 2F;
+
+	/**
+	 * The off-screen image or {@code null} if not (yet) created.
+	 */
+	private VolatileImage image;
+
+	/**
+	 * Begin a frame.
+	 *
+	 * @param screen
+	 *            the graphics of the window
+	 * @param width
+	 *            the width of the window
+	 * @param height
+	 *            the height of the window
+	 * @return the graphics the frame shall be rendered to (in logical pixels)
+	 */
+	Graphics2D begin(Graphics2D screen, int width, int height) {
+		// not configured (e.g. old config files): no scaling
+		float scale = GameConf.RENDER_SCALE <= 0 ? 1 : Math.min(Math.max(GameConf.RENDER_SCALE, BackBuffer.MIN_SCALE), BackBuffer.MAX_SCALE);
+		if (scale == 1 && width == GameConf.PIXEL_W && height == GameConf.PIXEL_H) {
+			return screen;
+		}
+		int w = Math.round(GameConf.PIXEL_W * scale);
+		int h = Math.round(GameConf.PIXEL_H * scale);
+		GraphicsConfiguration config = screen.getDeviceConfiguration();
+		if (this.image == null || this.image.getWidth() != w || this.image.getHeight() != h || this.image.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+			if (this.image != null) {
+				this.image.flush();
+			}
+			this.image = config.createCompatibleVolatileImage(w, h);
+		}
+		Graphics2D graphics = this.image.createGraphics();
+		graphics.scale((double) w / GameConf.PIXEL_W, (double) h / GameConf.PIXEL_H);
+		return graphics;
+	}
+
+	/**
+	 * Finish a frame: scale the off-screen image to the window (if the frame
+	 * has not been rendered directly).
+	 *
+	 * @param screen
+	 *            the graphics of the window
+	 * @param graphics
+	 *            the graphics of the frame (see
+	 *            {@link #begin(Graphics2D, int, int)})
+	 * @param width
+	 *            the width of the window
+	 * @param height
+	 *            the height of the window
+	 */
+	void end(Graphics2D screen, Graphics2D graphics, int width, int height) {
+		if (graphics == screen) {
+			return;
+		}
+		graphics.dispose();
+		// fit into the window (keep the aspect ratio)
+		float fit = Math.min(width / (float) GameConf.PIXEL_W, height / (float) GameConf.PIXEL_H);
+		int w = Math.round(GameConf.PIXEL_W * fit);
+		int h = Math.round(GameConf.PIXEL_H * fit);
+		if (w < width || h < height) {
+			screen.setColor(Color.BLACK);
+			screen.fillRect(0, 0, width, height);
+		}
+		// bilinear scaling is expensive without acceleration, so it depends on
+		// the quality
+		screen.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+				GameConf.QUALITY.isAntialiasing() ? RenderingHints.VALUE_INTERPOLATION_BILINEAR : RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		screen.drawImage(this.image, (width - w) / 2, (height - h) / 2, w, h, null);
+	}
+}
@@ -0,0 +1,205 @@
+package rekit.gui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import rekit.config.GameConf;
+import rekit.logic.IScene;
+import rekit.primitives.TextOptions;
+import rekit.primitives.geometry.Vec;
+import rekit.primitives.image.RGBAColor;
+import rekit.util.profiling.Histogram;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
+
+/**
+ * This class realizes the debug overlay of the {@link GameView} (see
+ * {@link GameConf#DEBUG}). The texts will only be laid out every
+ * {@link #INTERVAL} millis; all other frames just draw the cached lines at
+ * their cached positions with the cached font. All counters come from cached
+ * aggregates (the {@link FpsMeter}, the {@link Profiler} and the counters of
+ * the {@link IScene}), so nothing will be counted per frame.<br>
+ * The overlay shall only be used by the render thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class DebugOverlay {
+	/**
+	 * The time between two layouts in millis.
+	 */
+	private static final long INTERVAL = 250;
+
+	/**
+	 * The grid of the view (for the cache of drawn images).
+	 */
+	private final GameGridImpl grid;
+	/**
+	 * The meter of the frames per second.
+	 */
+	private final FpsMeter fps = new FpsMeter();
+	/**
+	 * The font of all texts.
+	 */
+	private final Font font;
+	/**
+	 * The color of all texts.
+	 */
+	private final Color color;
+	/**
+	 * The alignment of the profile (left aligned).
+	 */
+	private final Vec profileAlignment = new Vec(0, -0.5F);
+	/**
+	 * The laid out lines.
+	 */
+	private final List<String> lines = new ArrayList<>();
+	/**
+	 * The positions of the {@link #lines} (x and y alternating).
+	 */
+	private float[] positions = new float[0];
+	/**
+	 * The time of the last layout (see {@link System#currentTimeMillis()}).
+	 */
+	private long lastLayout;
+
+	/**
+	 * Create the overlay.
+	 *
+	 * @param grid
+	 *            the grid of the view
+	 */
+	DebugOverlay(GameGridImpl grid) {
+		this.grid = grid;
+		TextOptions options = GameConf.HINT_TEXT;
+		this.font = new Font(options.getFont(), options.getFontOptions(), options.getHeight());
+		RGBAColor col = options.getColor();
+		this.color = new Color(col.red, col.green, col.blue, col.alpha);
+	}
+
+	/**
+	 * Record a new frame (shall be invoked for each frame, even if the overlay
+	 * will not be drawn).
+	 *
+	 * @param now
+	 *            the current time (see {@link System#nanoTime()})
+	 */
+	void frame(long now) {
+		this.fps.frame(now);
+	}
+
+	/**
+	 * Draw the overlay. The texts will be laid out again if the last layout is
+	 * older than {@link #INTERVAL}.
+	 *
+	 * @param graphics
+	 *            the target
+	 * @param scene
+	 *            the current scene
+	 */
+	void draw(Graphics2D graphics, IScene scene) {
+		long now = System.currentTimeMillis();
+		if (now - this.lastLayout >= DebugOverlay.INTERVAL) {
+			this.lastLayout = now;
+			this.layout(graphics.getFontMetrics(this.font), scene);
+		}
+		graphics.setColor(this.color);
+		graphics.setFont(this.font);
+		for (int i = 0; i < this.lines.size(); i++) {
+			graphics.drawString(this.lines.get(i), this.positions[2 * i], this.positions[2 * i + 1]);
+		}
+	}
+
+	/**
+	 * Lay out all texts into {@link #lines} and {@link #positions}.
+	 *
+	 * @param metrics
+	 *            the metrics of {@link #font}
+	 * @param scene
+	 *            the current scene
+	 */
+	private void layout(FontMetrics metrics, IScene scene) {
+		this.lines.clear();
+		Vec right = GameConf.HINT_TEXT.getAlignment();
+
+		// lay out FPS
+		this.layout(metrics, GameConf.PIXEL_W - 10, GameConf.PIXEL_H - 60, "FPS: " + this.fps.getFPS(), right);
+		// lay out image caches
+		String cacheInfo = ImageManagement.getCacheInfo() + "\n" + this.grid.getCacheInfo();
+		this.layout(metrics, GameConf.PIXEL_W - 10, GameConf.PIXEL_H - 100, cacheInfo, right);
+		// lay out profiler
+		this.layout(metrics, 10, GameConf.PIXEL_H / 4f, this.getProfile(), this.profileAlignment);
+
+		// lay out game elements
+		StringBuilder resultName = new StringBuilder().append("GameElements\n");
+		StringBuilder resultNum = new StringBuilder();
+		StringBuilder resultDur = new StringBuilder().append("\n");
+
+		resultNum.append(scene.getGameElementCount()).append("\n");
+
+		Map<String, Long> durations = scene.getGameElementDurations();
+		scene.getGameElementCountByClass().entrySet().forEach((e) -> {
+			resultName.append(e.getKey());
+			resultName.append("\n");
+			resultNum.append(e.getValue());
+			resultNum.append("\n");
+			Long dur = durations.get(e.getKey());
+			resultDur.append(dur == null ? "-" : dur / 1000);
+			resultDur.append("\n");
+		});
+
+		this.layout(metrics, GameConf.PIXEL_W - 55, GameConf.PIXEL_H / 4f, resultName.toString(), right);
+		this.layout(metrics, GameConf.PIXEL_W - 30, GameConf.PIXEL_H / 4f, resultNum.toString(), right);
+		this.layout(metrics, GameConf.PIXEL_W - 5, GameConf.PIXEL_H / 4f, resultDur.toString(), right);
+	}
+
+	/**
+	 * Lay out a (multi line) text as {@link GameGridImpl} does.
+	 *
+	 * @param metrics
+	 *            the metrics of {@link #font}
+	 * @param x
+	 *            the x position
+	 * @param y
+	 *            the y position
+	 * @param text
+	 *            the text
+	 * @param alignment
+	 *            the alignment (see {@link TextOptions#getAlignment()})
+	 */
+	private void layout(FontMetrics metrics, float x, float y, String text, Vec alignment) {
+		int height = metrics.getHeight();
+		for (String line : text.split("\n")) {
+			int width = metrics.stringWidth(line) + 2;
+			int i = this.lines.size();
+			if (this.positions.length < 2 * (i + 1)) {
+				this.positions = Arrays.copyOf(this.positions, 4 * (i + 1));
+			}
+			this.lines.add(line);
+			this.positions[2 * i] = x + alignment.x * width;
+			this.positions[2 * i + 1] = (y += height) + alignment.y * (height + 2);
+		}
+	}
+
+	/**
+	 * Get the durations of all phases of the {@link Profiler} (p50 / p99 / max
+	 * in micros).
+	 *
+	 * @return the text
+	 */
+	private String getProfile() {
+		StringBuilder profile = new StringBuilder("Profile (us): p50 / p99 / max\n");
+		for (Phase phase : Phase.values()) {
+			Histogram h = Profiler.get(phase);
+			profile.append(phase.getName()).append(": ").append(h.getValueAtPercentile(50) / 1000).append(" / ").append(h.getValueAtPercentile(99) / 1000)
+					.append(" / ").append(h.getMax() / 1000).append("\n");
+		}
+		return profile.toString();
+	}
+}
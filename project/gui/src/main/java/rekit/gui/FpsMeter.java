@@ -0,0 +1,55 @@
+package rekit.gui;
+
+/**
+ * This class measures the frames per second by a ring buffer of the times of
+ * the last {@value #FRAMES} frames (no allocation per frame).<br>
+ * The meter shall only be used by the render thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class FpsMeter {
+	/**
+	 * The amount of frames to calculate the FPS.
+	 */
+	private static final int FRAMES = 100;
+
+	/**
+	 * The times of the last frames (nanos).
+	 */
+	private final long[] times = new long[FpsMeter.FRAMES];
+	/**
+	 * The index of the next slot of {@link #times}.
+	 */
+	private int next;
+	/**
+	 * The amount of used slots of {@link #times}.
+	 */
+	private int size;
+
+	/**
+	 * Record a new frame.
+	 *
+	 * @param now
+	 *            the current time (see {@link System#nanoTime()})
+	 */
+	void frame(long now) {
+		this.times[this.next] = now;
+		this.next = (this.next + 1) % FpsMeter.FRAMES;
+		this.size = Math.min(this.size + 1, FpsMeter.FRAMES);
+	}
+
+	/**
+	 * Get the FPS of the recorded frames.
+	 *
+	 * @return the FPS or 0 if less than two frames have been recorded
+	 */
+	long getFPS() {
+		if (this.size < 2) {
+			return 0;
+		}
+		long newest = this.times[(this.next + FpsMeter.FRAMES - 1) % FpsMeter.FRAMES];
+		long oldest = this.times[(this.next + FpsMeter.FRAMES - this.size) % FpsMeter.FRAMES];
+		return newest == oldest ? 0 : (this.size - 1) * 1_000_000_000L / (newest - oldest);
+	}
+}
@@ -0,0 +1,86 @@
+package rekit.gui;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class paces the frames of the render thread: it parks the thread until
+ * shortly before the next frame is due and spins only for the last
+ * {@link #SPIN} nanos (parking is too coarse for exact frame times, spinning
+ * for the whole frame would burn a core). If a frame is late, the next frame
+ * will be paced from now on (no bursts to catch up).<br>
+ * Only idle waits (throttled frames) can be skipped by {@link #wakeUp()}, so
+ * input (e.g. key repeats) does not shorten the frames while playing.<br>
+ * The pacer shall only be used by the render thread (except of
+ * {@link #wakeUp()}).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class FramePacer {
+	/**
+	 * The time in nanos which will be spun instead of parked.
+	 */
+	private static final long SPIN = 1_000_000L;
+
+	/**
+	 * The thread which waits (the render thread).
+	 */
+	private volatile Thread thread;
+	/**
+	 * Indicates whether the current wait shall be aborted.
+	 */
+	private volatile boolean woken;
+	/**
+	 * Indicates whether the current wait is idle (and can be skipped).
+	 */
+	private volatile boolean idle;
+	/**
+	 * The time the next frame is due (see {@link System#nanoTime()}).
+	 */
+	private long next = System.nanoTime();
+
+	/**
+	 * Wait until the next frame is due.
+	 *
+	 * @param period
+	 *            the time between two frames in nanos
+	 * @param idle
+	 *            indicates whether the frames are throttled (only then
+	 *            {@link #wakeUp()} will skip the wait)
+	 */
+	void await(long period, boolean idle) {
+		this.thread = Thread.currentThread();
+		this.idle = idle;
+		if (!idle) {
+			// a late wake up of the last idle wait
+			this.woken = false;
+		}
+		long now = System.nanoTime();
+		this.next = Math.max(this.next + period, now);
+		long remaining;
+		while (!this.woken && (remaining = this.next - System.nanoTime()) > 0) {
+			if (remaining > FramePacer.SPIN) {
+				LockSupport.parkNanos(this, remaining - FramePacer.SPIN);
+			} else {
+				Thread.onSpinWait();
+			}
+		}
+		if (this.woken) {
+			this.woken = false;
+			this.next = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Skip the current wait if it is idle (e.g. on input while the frames are
+	 * throttled), otherwise nothing happens. This method may be invoked by any
+	 * thread.
+	 */
+	void wakeUp() {
+		if (!this.idle) {
+			return;
+		}
+		this.woken = true;
+		LockSupport.unpark(this.thread);
+	}
+}
@@ -8,22 +8,25 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.geom.Ellipse2D;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.fuchss.tools.tuple.Tuple3;
 
 import rekit.config.GameConf;
 import rekit.core.GameGrid;
 import rekit.logic.filters.Filter;
+import rekit.logic.filters.FilterEngine;
 import rekit.primitives.TextOptions;
 import rekit.primitives.geometry.Polygon;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.image.RGBAColor;
 import rekit.util.CalcUtil;
+import rekit.util.ThreadUtils;
+import rekit.util.profiling.events.FilterEvent;
 
 /**
  * This class represents a {@link GameGrid} of the {@link GameView}.
@@ -51,9 +54,27 @@ class GameGridImpl extends GameGrid {
 	 */
 	private Graphics2D graphics;
 	/**
-	 * The image cache: (Path, Filter, etc) -&gt; Image.
+	 * The max. size of {@link #images} (pixel data).
 	 */
-	private final Map<CacheKey, Image> images = new HashMap<>();
+	private static final long CACHE_SIZE = 32L << 20;
+	/**
+	 * The image cache: (Path, Filter, etc) -&gt; Image. Only used for images
+	 * which are not part of the {@link #sprites}.
+	 */
+	private final ImageCache<CacheKey> images = new ImageCache<>("Drawn", GameGridImpl.CACHE_SIZE);
+	/**
+	 * The atlas of all sprites (created in background).
+	 */
+	private final CompletableFuture<SpriteAtlas> sprites = CompletableFuture.supplyAsync(SpriteAtlas::create, GameGridImpl::runDaemon);
+	/**
+	 * The atlas filtered by the current {@link #filter} or {@code null} if not
+	 * (yet) available.
+	 */
+	private volatile SpriteAtlas filteredSprites;
+	/**
+	 * The number of the current filter (to discard outdated filtered atlases).
+	 */
+	private final AtomicInteger filterNo = new AtomicInteger();
 
 	/**
 	 * Set the current graphics.
@@ -94,6 +115,24 @@ class GameGridImpl extends GameGrid {
 		return new Dimension(adv + 2, hgt + 2);
 	}
 
+	/**
+	 * Get the statistics of the image cache.
+	 *
+	 * @return the statistics
+	 */
+	String getCacheInfo() {
+		return this.images.toString();
+	}
+
+	/**
+	 * Get the cache of drawn images.
+	 *
+	 * @return the cache
+	 */
+	ImageCache<?> getCache() {
+		return this.images;
+	}
+
 	/**
 	 * Set the current filter.
 	 *
@@ -101,13 +140,45 @@ class GameGridImpl extends GameGrid {
 	 *            the filter or {@code null} for deleting current filters
 	 */
 	void setFilter(Filter filter) {
-		if (filter == null) {
-			this.filter = null;
-		} else {
-			this.filter = filter;
+		this.filter = filter;
+		this.filterSprites();
+	}
+
+	/**
+	 * Check whether the internal state of the current filter has been changed
+	 * (see {@link Filter#changed()}). This method shall be invoked once per
+	 * frame.
+	 */
+	void updateFilter() {
+		Filter current = this.filter;
+		if (current != null && current.changed()) {
+			this.images.invalidate(key -> key.filter == current);
+			this.filterSprites();
 		}
 	}
 
+	/**
+	 * Create the atlas for the current filter in background. Until it is
+	 * ready, the unfiltered sprites will be drawn.
+	 */
+	private void filterSprites() {
+		Filter current = this.filter;
+		int no = this.filterNo.incrementAndGet();
+		this.filteredSprites = null;
+		if (current == null || !current.isApplyImage()) {
+			return;
+		}
+		this.sprites.thenApplyAsync(atlas -> atlas.filter(current), GameGridImpl::runDaemon).thenAccept(atlas -> {
+			if (this.filterNo.get() == no) {
+				this.filteredSprites = atlas;
+			}
+		});
+	}
+
+	private static void runDaemon(Runnable r) {
+		ThreadUtils.runDaemon(SpriteAtlas.class.getSimpleName(), r);
+	}
+
 	/**
 	 * Set the background of the field.
 	 *
@@ -296,24 +367,37 @@ class GameGridImpl extends GameGrid {
 	}
 
 	private void drawImageImpl(Vec pos, Vec size, String imagePath, boolean usefilter, boolean mirrorX, boolean mirrorY) {
-		Image image = null;
+		SpriteAtlas atlas = usefilter && this.filteredSprites != null ? this.filteredSprites : this.sprites.getNow(null);
+		int x = (int) (pos.x - size.x / 2f);
+		int y = (int) (pos.y - size.y / 2f);
+		if (atlas != null && atlas.draw(this.graphics, imagePath, x, y, mirrorX, mirrorY)) {
+			return;
+		}
+
 		CacheKey key = new CacheKey(imagePath, usefilter ? this.filter : null, mirrorX, mirrorY);
-		if (this.images.containsKey(key) && !(this.filter != null && this.filter.changed())) {
-			image = this.images.get(key);
-		} else {
-			if (this.filter != null && this.filter.isApplyImage()) {
-				image = ImageManagement.toImage(this.filter.apply(ImageManagement.getAsAbstractImage(imagePath, mirrorX, mirrorY)));
+		Image image = this.images.get(key);
+		if (image == null) {
+			if (usefilter && this.filter != null && this.filter.isApplyImage()) {
+				FilterEvent event = new FilterEvent();
+				event.begin();
+				image = ImageManagement.toImage(FilterEngine.apply(this.filter, ImageManagement.getAsAbstractImage(imagePath, mirrorX, mirrorY)));
+				if (event.shouldCommit()) {
+					event.filter = this.filter.getClass().getSimpleName();
+					event.target = imagePath;
+					event.commit();
+				}
 			} else {
 				image = ImageManagement.get(imagePath, mirrorX, mirrorY);
 			}
-			this.images.put(key, image);
+			if (image == null) {
+				return;
+			}
+			image = AcceleratedImage.toCompatible(image, this.graphics.getDeviceConfiguration());
+			image = this.images.putIfAbsent(key, image);
 			GameConf.GAME_LOGGER.debug("GameGrid: Image Cache Miss: " + key);
 		}
 
-		this.graphics.drawImage(image, // image
-				(int) (pos.x - size.x / 2f), // dstX
-				(int) (pos.y - size.y / 2f), // dstY
-				null);
+		this.graphics.drawImage(image, x, y, null);
 
 	}
 
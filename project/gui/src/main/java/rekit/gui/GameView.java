@@ -5,27 +5,28 @@ import java.awt.Canvas;
 import java.awt.Dimension;
 import java.awt.Frame;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferStrategy;
-import java.util.ArrayDeque;
-import java.util.Map;
-import java.util.Queue;
-import java.util.TreeMap;
 
 import javax.swing.JFrame;
 import javax.swing.WindowConstants;
 
 import rekit.config.GameConf;
-import rekit.core.GameTime;
 import rekit.core.ShutdownManager;
 import rekit.logic.IScene;
 import rekit.logic.Model;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gui.GuiElement;
-import rekit.primitives.geometry.Vec;
+import rekit.logic.scene.Scenes;
 import rekit.util.ThreadUtils;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
+import rekit.util.profiling.events.FrameEvent;
 
 /**
  * Main class of the View. Manages the window and a canvas an periodically
@@ -41,6 +42,11 @@ class GameView implements View {
 	 * The location of the icon of the game.
 	 */
 	private static final String ICON_LOCATION = "icon.png";
+	/**
+	 * The time in nanos after the last input, while the frames will not be
+	 * throttled (the input will be handled by the next logic tick).
+	 */
+	private static final long IDLE_DELAY = 500_000_000L;
 
 	/**
 	 * Reference to the model, that holds all information that are required for
@@ -48,23 +54,6 @@ class GameView implements View {
 	 */
 	private Model model;
 
-	/**
-	 * The last render time.
-	 */
-	private long lastRenderTime;
-	/**
-	 * The queue used for fps calculation.
-	 */
-	private Queue<Long> fpsQueue = new ArrayDeque<>();
-	/**
-	 * The last calculated fps-sum value.
-	 */
-	private long lastFpsSum = -1;
-	/**
-	 * Amount of points in time to calculate FPS.
-	 */
-	private static final int FPS_COUNTER = 100;
-
 	/**
 	 * The Field that manages the graphic context.
 	 */
@@ -81,6 +70,26 @@ class GameView implements View {
 	 * The Buffer of the {@link #canvas}.
 	 */
 	private final BufferStrategy bufferStrategy;
+	/**
+	 * The debug overlay.
+	 */
+	private final DebugOverlay debug;
+	/**
+	 * The pacer of the frames.
+	 */
+	private final FramePacer pacer = new FramePacer();
+	/**
+	 * The governor of {@link GameConf#QUALITY}.
+	 */
+	private final QualityGovernor governor = new QualityGovernor();
+	/**
+	 * The buffer for the internal render resolution.
+	 */
+	private final BackBuffer backBuffer = new BackBuffer();
+	/**
+	 * The time of the last input (see {@link System#nanoTime()}).
+	 */
+	private volatile long lastInput = System.nanoTime();
 
 	/**
 	 * Constructor that creates a new window with a canvas and prepares all
@@ -96,7 +105,7 @@ class GameView implements View {
 		this.frame.setIconImage(ImageManagement.get(GameView.ICON_LOCATION, false, false));
 		this.frame.setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
 
-		this.frame.setResizable(false);
+		this.frame.setResizable(true);
 		this.frame.setSize(GameConf.PIXEL_W, GameConf.PIXEL_H);
 		this.center(this.frame);
 		this.frame.setLayout(new BorderLayout());
@@ -105,6 +114,13 @@ class GameView implements View {
 		this.canvas = new Canvas();
 		this.canvas.setPreferredSize(new Dimension(GameConf.PIXEL_W, GameConf.PIXEL_H));
 		this.canvas.setIgnoreRepaint(true);
+		this.canvas.addComponentListener(new ComponentAdapter() {
+			@Override
+			public void componentResized(ComponentEvent e) {
+				// redraw immediately, even if the frames are throttled
+				GameView.this.pacer.wakeUp();
+			}
+		});
 		this.frame.add(this.canvas, BorderLayout.CENTER);
 		this.frame.pack();
 
@@ -114,6 +130,7 @@ class GameView implements View {
 
 		// Create Graphic context
 		this.grid = new GameGridImpl();
+		this.debug = new DebugOverlay(this.grid);
 	}
 
 	/**
@@ -130,10 +147,12 @@ class GameView implements View {
 	}
 
 	/**
-	 * Starts the View by periodically invoking renderLoop().
+	 * Starts the View by periodically invoking renderLoop() and registers the
+	 * {@link MonitorMXBean}.
 	 */
 	@Override
 	public void start() {
+		Monitor.register(this.model, this.grid);
 		ThreadUtils.runDaemon("GameView", this::update);
 	}
 
@@ -141,31 +160,65 @@ class GameView implements View {
 	 * "Update-Thread" content.
 	 */
 	private void update() {
-		long last = System.currentTimeMillis();
 		while (this.frame.isVisible()) {
-			while (System.currentTimeMillis() - last < GameConf.RENDER_DELTA) {
-				Thread.yield();
+			if (this.isIdle()) {
+				this.pacer.await(Math.max(GameConf.IDLE_RENDER_DELTA, GameConf.RENDER_DELTA) * 1_000_000L, true);
+			} else if (!GameConf.VSYNC) {
+				this.pacer.await(GameConf.RENDER_DELTA * 1_000_000L, false);
 			}
-			last = System.currentTimeMillis();
 			this.renderLoop();
+			if (GameConf.VSYNC) {
+				Toolkit.getDefaultToolkit().sync();
+			}
 		}
 		ShutdownManager.shutdown();
 	}
 
+	/**
+	 * Indicates whether nothing on screen changes (menus and pause without
+	 * recent input), so that the frames can be throttled to
+	 * {@link GameConf#IDLE_RENDER_DELTA}.
+	 *
+	 * @return {@code true} if idle
+	 */
+	private boolean isIdle() {
+		if (System.nanoTime() - this.lastInput < GameView.IDLE_DELAY) {
+			return false;
+		}
+		IScene scene = this.model.getScene();
+		Scenes type = Scenes.getByInstance(scene);
+		return scene.isPaused() || type != null && type.isMenu();
+	}
+
 	/**
 	 * Games main render loop that is periodically called. It updates the canvas
 	 * by iterating over all GameElements that GameMode.getGameElementIterator()
 	 * supplies and invoking each render()
 	 */
 	private void renderLoop() {
+		long frame = Profiler.start();
+		this.debug.frame(frame);
+		this.governor.update(frame);
+		FrameEvent event = new FrameEvent();
+		event.begin();
 		IScene scene = this.model.getScene();
 		if (this.model.filterChanged()) {
 			this.grid.setFilter(this.model.getFilter());
+		} else {
+			this.grid.updateFilter();
 		}
+		long time = Profiler.lap(Phase.RENDER_FILTER, frame);
 
 		// Create temporary GC on new Image and let field draw on that
 		// Double buffering reduces flickering
-		Graphics2D graphics = (Graphics2D) this.bufferStrategy.getDrawGraphics();
+		int width = this.canvas.getWidth();
+		int height = this.canvas.getHeight();
+		Graphics2D screen = (Graphics2D) this.bufferStrategy.getDrawGraphics();
+		Graphics2D graphics = this.backBuffer.begin(screen, width, height);
+		boolean antialiasing = GameConf.QUALITY.isAntialiasing();
+		graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+		graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+				antialiasing ? RenderingHints.VALUE_TEXT_ANTIALIAS_ON : RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
 
 		// set current camera position
 		this.grid.setGraphics(graphics);
@@ -173,11 +226,21 @@ class GameView implements View {
 		this.grid.setBackground(GameConf.GAME_BACKGROUD_COLOR);
 
 		this.drawElements(scene);
-		this.drawDebug();
+		time = Profiler.lap(Phase.RENDER_ELEMENTS, time);
+		this.drawDebug(graphics, scene);
+		time = Profiler.lap(Phase.RENDER_DEBUG, time);
 
-		// draw temporary image on actual cavans
-		graphics.dispose();
+		// draw temporary image on actual cavans (scaled if necessary)
+		this.backBuffer.end(screen, graphics, width, height);
+		screen.dispose();
 		this.bufferStrategy.show();
+		Profiler.lap(Phase.RENDER_SHOW, time);
+		Profiler.lap(Phase.FRAME, frame);
+		if (event.shouldCommit()) {
+			event.scene = scene.getClass().getSimpleName();
+			event.elements = scene.getGameElementCount();
+			event.commit();
+		}
 	}
 
 	/**
@@ -194,81 +257,26 @@ class GameView implements View {
 	/**
 	 * If {@link GameConf#DEBUG} is set this method will be used for drawing
 	 * stats.
+	 *
+	 * @param graphics
+	 *            the current graphics
+	 * @param scene
+	 *            the current scene
 	 */
-	private void drawDebug() {
+	private void drawDebug(Graphics2D graphics, IScene scene) {
 		if (!GameConf.DEBUG) {
 			return;
 		}
-		// draw FPS
-		String debugInfo = "FPS: " + this.getFPS();
-		this.grid.drawText(new Vec(GameConf.PIXEL_W - 10, GameConf.PIXEL_H - 60), debugInfo, GameConf.HINT_TEXT, false);
-
-		Map<String, Integer> classCounter = new TreeMap<>();
-
-		this.model.getScene().applyToGameElements(e -> {
-			String className = e.getClass().getSimpleName();
-			if (classCounter.containsKey(className)) {
-				classCounter.put(className, classCounter.get(className) + 1);
-			} else {
-				classCounter.put(className, 1);
-			}
-		});
-
-		StringBuilder resultName = new StringBuilder().append("GameElements\n");
-		StringBuilder resultNum = new StringBuilder();
-		StringBuilder resultDur = new StringBuilder().append("\n");
-
-		resultNum.append(this.model.getScene().getGameElementCount()).append("\n");
-
-		Map<String, Long> durations = this.model.getScene().getGameElementDurations();
-		classCounter.entrySet().forEach((e) -> {
-			resultName.append(e.getKey());
-			resultName.append("\n");
-			resultNum.append(e.getValue());
-			resultNum.append("\n");
-			Long dur = durations.get(e.getKey());
-			resultDur.append(dur == null ? "-" : dur);
-			resultDur.append("\n");
-		});
-
-		this.grid.drawText(new Vec(GameConf.PIXEL_W - 55, GameConf.PIXEL_H / 4f), resultName.toString(), GameConf.HINT_TEXT, false);
-		this.grid.drawText(new Vec(GameConf.PIXEL_W - 30, GameConf.PIXEL_H / 4f), resultNum.toString(), GameConf.HINT_TEXT, false);
-		this.grid.drawText(new Vec(GameConf.PIXEL_W - 5, GameConf.PIXEL_H / 4f), resultDur.toString(), GameConf.HINT_TEXT, false);
+		this.debug.draw(graphics, scene);
 	}
 
 	/**
-	 * Get the latest FPS.
-	 *
-	 * @return the FPS
+	 * Leave the throttled frames on input (the pacer ignores the wake up while
+	 * the frames are not throttled).
 	 */
-	private long getFPS() {
-		if (GameTime.isPaused()) {
-			return 1000L * this.fpsQueue.size() / this.lastFpsSum;
-		}
-
-		long thisTime = GameTime.getTime();
-		long deltaTime = thisTime - this.lastRenderTime;
-		this.lastRenderTime = GameTime.getTime();
-
-		if (this.fpsQueue.size() > GameView.FPS_COUNTER && this.lastFpsSum != -1) {
-			// Queue filled & fps set --> Speedup
-			long fpsDelete = this.fpsQueue.remove();
-			this.fpsQueue.add(deltaTime);
-			this.lastFpsSum -= fpsDelete;
-			this.lastFpsSum += deltaTime;
-			return 1000 * GameView.FPS_COUNTER / this.lastFpsSum;
-
-		}
-
-		if (this.lastFpsSum == -1) {
-			// Fill Queue
-			this.fpsQueue.add(deltaTime);
-		}
-		if (this.fpsQueue.size() > GameView.FPS_COUNTER) {
-			this.lastFpsSum = this.fpsQueue.stream().mapToLong(Long::longValue).sum();
-		}
-
-		return 1000L * this.fpsQueue.size() / this.fpsQueue.stream().mapToLong(Long::longValue).sum();
+	private void onInput() {
+		this.lastInput = System.nanoTime();
+		this.pacer.wakeUp();
 	}
 
 	@Override
@@ -278,11 +286,13 @@ class GameView implements View {
 			@Override
 			public void keyPressed(KeyEvent e) {
 				inputHelper.press(e.getKeyCode());
+				GameView.this.onInput();
 			}
 
 			@Override
 			public void keyReleased(KeyEvent e) {
 				inputHelper.release(e.getKeyCode());
+				GameView.this.onInput();
 			}
 		};
 		this.frame.addKeyListener(adapter);
@@ -0,0 +1,165 @@
+package rekit.gui;
+
+import java.awt.Image;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This class realizes a cache for images which is bounded by the size of the
+ * pixel data (4 bytes per pixel). If the cache is full, the least recently
+ * used images will be evicted.
+ *
+ * @author Dominik Fuchss
+ *
+ * @param <K>
+ *            the key type
+ */
+final class ImageCache<K> {
+	/**
+	 * The name of the cache (for {@link #toString()}).
+	 */
+	private final String name;
+	/**
+	 * The max. size in bytes.
+	 */
+	private final long maxBytes;
+	/**
+	 * The images in access order.
+	 */
+	private final LinkedHashMap<K, Image> images = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long bytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param name
+	 *            the name of the cache
+	 * @param maxBytes
+	 *            the max. size of the pixel data in bytes
+	 */
+	ImageCache(String name, long maxBytes) {
+		this.name = name;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Get an image.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the image or {@code null} if not cached
+	 */
+	synchronized Image get(K key) {
+		Image image = this.images.get(key);
+		if (image == null) {
+			this.misses++;
+		} else {
+			this.hits++;
+		}
+		return image;
+	}
+
+	/**
+	 * Put an image to the cache if no image is cached for its key and evict
+	 * the least recently used images if necessary (the new image will never be
+	 * evicted immediately).
+	 *
+	 * @param key
+	 *            the key
+	 * @param image
+	 *            the image
+	 * @return the cached image (the already cached image or the new image)
+	 */
+	synchronized Image putIfAbsent(K key, Image image) {
+		Image cached = this.images.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		this.images.put(key, image);
+		this.bytes += ImageCache.sizeOf(image);
+		Iterator<Map.Entry<K, Image>> lru = this.images.entrySet().iterator();
+		while (this.bytes > this.maxBytes && this.images.size() > 1) {
+			Map.Entry<K, Image> eldest = lru.next();
+			this.bytes -= ImageCache.sizeOf(eldest.getValue());
+			this.evictions++;
+			lru.remove();
+		}
+		return image;
+	}
+
+	/**
+	 * Remove all images whose keys match a predicate.
+	 *
+	 * @param keys
+	 *            the predicate
+	 */
+	synchronized void invalidate(Predicate<? super K> keys) {
+		Iterator<Map.Entry<K, Image>> it = this.images.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<K, Image> entry = it.next();
+			if (keys.test(entry.getKey())) {
+				this.bytes -= ImageCache.sizeOf(entry.getValue());
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Get the size of the pixel data of an image.
+	 *
+	 * @param image
+	 *            the image
+	 * @return the size in bytes
+	 */
+	private static long sizeOf(Image image) {
+		return 4L * Math.max(0, image.getWidth(null)) * Math.max(0, image.getHeight(null));
+	}
+
+	/**
+	 * Get the amount of cached images.
+	 *
+	 * @return the amount of images
+	 */
+	synchronized int size() {
+		return this.images.size();
+	}
+
+	/**
+	 * Get the size of all cached images (pixel data).
+	 *
+	 * @return the size in bytes
+	 */
+	synchronized long bytes() {
+		return this.bytes;
+	}
+
+	/**
+	 * Get the amount of cache hits since creation.
+	 *
+	 * @return the amount of hits
+	 */
+	synchronized long hits() {
+		return this.hits;
+	}
+
+	/**
+	 * Get the amount of cache misses since creation.
+	 *
+	 * @return the amount of misses
+	 */
+	synchronized long misses() {
+		return this.misses;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return this.name + ": " + this.images.size() + " img, " + this.bytes / 1024 + "/" + this.maxBytes / 1024 + " KB, " //
+				+ this.hits + " hit, " + this.misses + " miss, " + this.evictions + " evict";
+	}
+}
@@ -9,8 +9,9 @@ import java.awt.image.Raster;
 import java.awt.image.WritableRaster;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 
 import javax.imageio.ImageIO;
 
@@ -36,9 +37,18 @@ public final class ImageManagement {
 	}
 
 	/**
-	 * The cache.
+	 * The location of all images in the resources.
 	 */
-	private static final Map<String, BufferedImage> CACHE = new HashMap<>();
+	private static final String IMAGES = "/images/";
+
+	/**
+	 * The max. size of {@link #CACHE} (pixel data).
+	 */
+	private static final long CACHE_SIZE = 64L << 20;
+	/**
+	 * The cache of the loaded images.
+	 */
+	private static final ImageCache<ImageKey> CACHE = new ImageCache<>("Loaded", ImageManagement.CACHE_SIZE);
 
 	/**
 	 * The loader Object for the Resource loading.
@@ -58,21 +68,80 @@ public final class ImageManagement {
 	 * @return the Image
 	 */
 	public static Image get(String src, boolean mirrorX, boolean mirrorY) {
-		if (!ImageManagement.CACHE.containsKey(src)) {
-			synchronized (ImageManagement.class) {
-				if (!ImageManagement.CACHE.containsKey(src)) {
-					BufferedImage img = ImageManagement.get("/images/" + src, 0);
-					if (img == null) {
-						return null;
-					}
-					ImageManagement.CACHE.put(src, ImageManagement.convertToRGB(img));
-				}
+		return ImageManagement.get(new ImageKey(src, mirrorX, mirrorY));
+	}
+
+	/**
+	 * Get an image (or a mirrored variant) from the cache or load it. Mirrored
+	 * variants are created from the (cached) original once.<br>
+	 * Only the cache is locked: images are loaded and mirrored without a lock
+	 * (so that the render thread is not blocked by loading threads). If two
+	 * threads load the same image, the image which has been cached first will
+	 * be used by both.
+	 *
+	 * @param key
+	 *            the key of the image
+	 * @return the image or {@code null} if not found
+	 */
+	private static BufferedImage get(ImageKey key) {
+		BufferedImage image = (BufferedImage) ImageManagement.CACHE.get(key);
+		if (image != null) {
+			return image;
+		}
+		if (key.mirrorX || key.mirrorY) {
+			BufferedImage original = ImageManagement.get(new ImageKey(key.src, false, false));
+			if (original == null) {
+				return null;
+			}
+			image = ImageManagement.mirror(original, key.mirrorX, key.mirrorY);
+		} else {
+			image = ImageManagement.get(ImageManagement.IMAGES + key.src, 0);
+			if (image == null) {
+				return null;
+			}
+			image = ImageManagement.convertToRGB(image);
+		}
+		return (BufferedImage) ImageManagement.CACHE.putIfAbsent(key, image);
+	}
+
+	/**
+	 * Get the statistics of the cache of loaded images.
+	 *
+	 * @return the statistics
+	 */
+	static String getCacheInfo() {
+		return ImageManagement.CACHE.toString();
+	}
+
+	/**
+	 * Get the cache of loaded images.
+	 *
+	 * @return the cache
+	 */
+	static ImageCache<?> getCache() {
+		return ImageManagement.CACHE;
+	}
+
+	/**
+	 * Get the paths of all images in the resources.
+	 *
+	 * @return the paths relative to "/images/" (usable for
+	 *         {@link #get(String, boolean, boolean)})
+	 */
+	static List<String> getAllImagePaths() {
+		List<String> paths = new ArrayList<>();
+		try {
+			for (Resource image : ImageManagement.LOAD.getResources("classpath*:/images/**/*.png")) {
+				String url = image.getURL().toString();
+				paths.add(url.substring(url.lastIndexOf(ImageManagement.IMAGES) + ImageManagement.IMAGES.length()));
 			}
+		} catch (IOException e) {
+			GameConf.GAME_LOGGER.error("Images could not be listed: " + e.getMessage());
 		}
-		return ImageManagement.mirror(ImageManagement.CACHE.get(src), mirrorX, mirrorY);
+		return paths;
 	}
 
-	private static Image mirror(BufferedImage image, boolean mirrorX, boolean mirrorY) {
+	private static BufferedImage mirror(BufferedImage image, boolean mirrorX, boolean mirrorY) {
 
 		if (!mirrorX && !mirrorY) {
 			return image;
@@ -134,6 +203,7 @@ public final class ImageManagement {
 
 	/**
 	 * Get the {@link AbstractImage} from the resources by name.<br>
+	 * The image will be {@link AbstractImage#isPacked() packed}.
 	 *
 	 * @param src
 	 *            the path relative to "/images/"
@@ -150,42 +220,37 @@ public final class ImageManagement {
 		if (image == null) {
 			return null;
 		}
-		image = ImageManagement.convertToRGB(image);
-		int bandwidth = image.getColorModel().hasAlpha() ? 4 : 3;
-		int[] data = new int[bandwidth * image.getWidth() * image.getHeight()];
-		image.getRaster().getPixels(0, 0, image.getWidth(), image.getHeight(), data);
-
-		byte[] abstractData = new byte[4 * image.getWidth() * image.getHeight()];
-		if (bandwidth == 3) {
-			for (int i = 0, j = 0; i < abstractData.length; i += 4, j += 3) {
-				abstractData[i] = (byte) data[j];
-				abstractData[i + 1] = (byte) data[j + 1];
-				abstractData[i + 2] = (byte) data[j + 2];
-				abstractData[i + 3] = (byte) 255;
-			}
+		int w = image.getWidth();
+		int h = image.getHeight();
+		int[] argb;
+		if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+			// Copy of the data (the data buffer itself shall not be taken, as
+			// this would prevent acceleration of the cached image)
+			argb = (int[]) image.getRaster().getDataElements(0, 0, w, h, null);
 		} else {
-			for (int i = 0; i < abstractData.length; i += 4) {
-				abstractData[i] = (byte) data[i];
-				abstractData[i + 1] = (byte) data[i + 1];
-				abstractData[i + 2] = (byte) data[i + 2];
-				abstractData[i + 3] = (byte) data[i + 3];
-			}
+			argb = image.getRGB(0, 0, w, h, null, 0, w);
 		}
-
-		return new AbstractImage(image.getHeight(), image.getWidth(), abstractData);
+		return new AbstractImage(h, w, argb);
 	}
 
 	/**
-	 * Convert {@link AbstractImage} to {@link Image}.
+	 * Convert {@link AbstractImage} to {@link Image}. A packed image will be
+	 * copied by one bulk copy (an image wrapping the array would be untrackable
+	 * and could never be accelerated by Java2D).
 	 *
 	 * @param in
-	 *            the input image
-	 * @return the converted image
+	 *            the abstract image
+	 * @return the image
 	 */
 	public static Image toImage(AbstractImage in) {
 		if (in == null) {
 			return null;
 		}
+		if (in.isPacked()) {
+			BufferedImage res = new BufferedImage(in.width, in.height, BufferedImage.TYPE_INT_ARGB);
+			res.getRaster().setDataElements(0, 0, in.width, in.height, in.argb);
+			return res;
+		}
 		BufferedImage res = new BufferedImage(in.width, in.height, BufferedImage.TYPE_INT_ARGB);
 		int[] pixels = new int[in.pixels.length];
 		for (int i = 0; i < pixels.length; i += 1) {
@@ -222,4 +287,41 @@ public final class ImageManagement {
 		return res;
 	}
 
+	/**
+	 * The key of an image (and its mirrored variants) in {@link #CACHE}.
+	 */
+	private static final class ImageKey {
+		private final String src;
+		private final boolean mirrorX;
+		private final boolean mirrorY;
+
+		private ImageKey(String src, boolean mirrorX, boolean mirrorY) {
+			this.src = src;
+			this.mirrorX = mirrorX;
+			this.mirrorY = mirrorY;
+		}
+
+		@Override
+		public int hashCode() {
+			return 4 * this.src.hashCode() + (this.mirrorX ? 2 : 0) + (this.mirrorY ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || this.getClass() != obj.getClass()) {
+				return false;
+			}
+			ImageKey other = (ImageKey) obj;
+			return Objects.equals(this.src, other.src) && this.mirrorX == other.mirrorX && this.mirrorY == other.mirrorY;
+		}
+
+		@Override
+		public String toString() {
+			return this.src + (this.mirrorX ? " (mirrorX)" : "") + (this.mirrorY ? " (mirrorY)" : "");
+		}
+	}
+
 }
@@ -0,0 +1,269 @@
+package rekit.gui;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import rekit.config.GameConf;
+import rekit.logic.IScene;
+import rekit.logic.Model;
+import rekit.logic.gameelements.particles.Particle;
+import rekit.logic.scene.Scenes;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
+
+/**
+ * This class realizes the {@link MonitorMXBean}. All values will be calculated
+ * on request (from the snapshot of the current scene, the {@link Profiler} and
+ * the image caches), so the monitor does not cost anything while nobody is
+ * watching.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class Monitor implements MonitorMXBean {
+	/**
+	 * The object name of the monitor.
+	 */
+	static final String NAME = "rekit:type=Monitor";
+
+	/**
+	 * The model.
+	 */
+	private final Model model;
+	/**
+	 * The grid of the view (for the cache of drawn images).
+	 */
+	private final GameGridImpl grid;
+	/**
+	 * The rate of logic ticks.
+	 */
+	private final Rate ticks = new Rate();
+	/**
+	 * The rate of rendered frames.
+	 */
+	private final Rate frames = new Rate();
+
+	/**
+	 * The amount of tick overruns at the last reset.
+	 */
+	private volatile long overrunBase;
+	/**
+	 * The amount of image cache hits at the last reset.
+	 */
+	private volatile long hitBase;
+	/**
+	 * The amount of image cache misses at the last reset.
+	 */
+	private volatile long missBase;
+
+	/**
+	 * Create the monitor.
+	 *
+	 * @param model
+	 *            the model
+	 * @param grid
+	 *            the grid of the view
+	 */
+	private Monitor(Model model, GameGridImpl grid) {
+		this.model = model;
+		this.grid = grid;
+	}
+
+	/**
+	 * Register the monitor at the platform MBean server.
+	 *
+	 * @param model
+	 *            the model
+	 * @param grid
+	 *            the grid of the view
+	 */
+	static void register(Model model, GameGridImpl grid) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(Monitor.NAME);
+			if (server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(new Monitor(model, grid), name);
+		} catch (JMException e) {
+			GameConf.GAME_LOGGER.error("Cannot register " + Monitor.NAME + ": " + e.getMessage());
+		}
+	}
+
+	@Override
+	public String getSceneType() {
+		IScene scene = this.model.getScene();
+		if (scene == null) {
+			return null;
+		}
+		Scenes type = Scenes.getByInstance(scene);
+		return type == null ? scene.getClass().getSimpleName() : type.name();
+	}
+
+	@Override
+	public int getGameElementCount() {
+		IScene scene = this.model.getScene();
+		return scene == null ? 0 : scene.getGameElementCount();
+	}
+
+	@Override
+	public Map<String, Integer> getGameElementsByClass() {
+		IScene scene = this.model.getScene();
+		return scene == null ? new TreeMap<>() : scene.getGameElementCountByClass();
+	}
+
+	@Override
+	public Map<String, Integer> getGameElementsByTeam() {
+		Map<String, Integer> result = new TreeMap<>();
+		IScene scene = this.model.getScene();
+		if (scene != null) {
+			scene.applyToGameElements(e -> result.merge(e.getTeam().name(), 1, Integer::sum));
+		}
+		return result;
+	}
+
+	@Override
+	public int getParticleCount() {
+		int[] count = new int[1];
+		IScene scene = this.model.getScene();
+		if (scene != null) {
+			scene.applyToGameElements(e -> count[0] += e instanceof Particle ? 1 : 0);
+		}
+		return count[0];
+	}
+
+	@Override
+	public int getPendingAdditions() {
+		IScene scene = this.model.getScene();
+		return scene == null ? 0 : scene.getPendingAdditions();
+	}
+
+	@Override
+	public int getPendingRemovals() {
+		IScene scene = this.model.getScene();
+		return scene == null ? 0 : scene.getPendingRemovals();
+	}
+
+	@Override
+	public double getTicksPerSecond() {
+		return this.ticks.get(Profiler.get(Phase.TICK).getCount());
+	}
+
+	@Override
+	public double getFramesPerSecond() {
+		return this.frames.get(Profiler.get(Phase.FRAME).getCount());
+	}
+
+	@Override
+	public long getTickOverruns() {
+		return this.model.getTickOverruns() - this.overrunBase;
+	}
+
+	@Override
+	public int getImageCacheSize() {
+		return ImageManagement.getCache().size() + this.grid.getCache().size();
+	}
+
+	@Override
+	public long getImageCacheBytes() {
+		return ImageManagement.getCache().bytes() + this.grid.getCache().bytes();
+	}
+
+	@Override
+	public double getImageCacheHitRate() {
+		long hits = this.getHits() - this.hitBase;
+		long misses = this.getMisses() - this.missBase;
+		return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+	}
+
+	/**
+	 * Get the hits of both image caches.
+	 *
+	 * @return the total amount of hits
+	 */
+	private long getHits() {
+		return ImageManagement.getCache().hits() + this.grid.getCache().hits();
+	}
+
+	/**
+	 * Get the misses of both image caches.
+	 *
+	 * @return the total amount of misses
+	 */
+	private long getMisses() {
+		return ImageManagement.getCache().misses() + this.grid.getCache().misses();
+	}
+
+	@Override
+	public boolean isDebug() {
+		return GameConf.DEBUG;
+	}
+
+	@Override
+	public boolean toggleDebug() {
+		GameConf.DEBUG = !GameConf.DEBUG;
+		return GameConf.DEBUG;
+	}
+
+	@Override
+	public void resetCounters() {
+		this.overrunBase = this.model.getTickOverruns();
+		this.hitBase = this.getHits();
+		this.missBase = this.getMisses();
+		Profiler.reset();
+	}
+
+	/**
+	 * This class calculates the rate of a counter (per second) over intervals
+	 * of at least one second.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class Rate {
+		/**
+		 * The min. length of an interval in nanos.
+		 */
+		private static final long INTERVAL = 1_000_000_000L;
+
+		/**
+		 * The start of the current interval in nanos (0 before the first
+		 * request).
+		 */
+		private long lastTime;
+		/**
+		 * The value of the counter at the start of the current interval.
+		 */
+		private long lastCount;
+		/**
+		 * The rate of the last completed interval.
+		 */
+		private double rate;
+
+		/**
+		 * Get the rate.
+		 *
+		 * @param count
+		 *            the current value of the counter
+		 * @return the rate of the last completed interval
+		 */
+		private synchronized double get(long count) {
+			long now = System.nanoTime();
+			if (this.lastTime == 0 || count < this.lastCount) {
+				// first request or counter has been reset
+				this.lastTime = now;
+				this.lastCount = count;
+			} else if (now - this.lastTime >= Rate.INTERVAL) {
+				this.rate = (count - this.lastCount) * 1E9 / (now - this.lastTime);
+				this.lastTime = now;
+				this.lastCount = count;
+			}
+			return this.rate;
+		}
+	}
+}
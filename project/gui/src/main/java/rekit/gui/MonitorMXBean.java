@@ -0,0 +1,126 @@
+package rekit.gui;
+
+import java.util.Map;
+
+import rekit.config.GameConf;
+
+/**
+ * This interface defines the JMX view of a running game (registered as
+ * {@value Monitor#NAME}), e.g. for JConsole or VisualVM.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public interface MonitorMXBean {
+	/**
+	 * Get the type of the current scene.
+	 *
+	 * @return the type of the scene
+	 */
+	String getSceneType();
+
+	/**
+	 * Get the amount of game elements of the current scene.
+	 *
+	 * @return the amount of game elements
+	 */
+	int getGameElementCount();
+
+	/**
+	 * Get the amount of game elements of the current scene by class.
+	 *
+	 * @return the amount by simple class name
+	 */
+	Map<String, Integer> getGameElementsByClass();
+
+	/**
+	 * Get the amount of game elements of the current scene by team.
+	 *
+	 * @return the amount by team
+	 */
+	Map<String, Integer> getGameElementsByTeam();
+
+	/**
+	 * Get the amount of particles of the current scene.
+	 *
+	 * @return the amount of particles
+	 */
+	int getParticleCount();
+
+	/**
+	 * Get the amount of game elements which will be added with the next tick.
+	 *
+	 * @return the amount of pending additions
+	 */
+	int getPendingAdditions();
+
+	/**
+	 * Get the amount of game elements which will be removed with the next
+	 * tick.
+	 *
+	 * @return the amount of pending removals
+	 */
+	int getPendingRemovals();
+
+	/**
+	 * Get the logic ticks per second (averaged over at least one second).
+	 *
+	 * @return the ticks per second
+	 */
+	double getTicksPerSecond();
+
+	/**
+	 * Get the rendered frames per second (averaged over at least one second).
+	 *
+	 * @return the frames per second
+	 */
+	double getFramesPerSecond();
+
+	/**
+	 * Get the amount of logic ticks which took longer than
+	 * {@link GameConf#LOGIC_DELTA} (since the last reset).
+	 *
+	 * @return the amount of tick overruns
+	 */
+	long getTickOverruns();
+
+	/**
+	 * Get the amount of images in all image caches.
+	 *
+	 * @return the amount of images
+	 */
+	int getImageCacheSize();
+
+	/**
+	 * Get the size of the pixel data in all image caches.
+	 *
+	 * @return the size in bytes
+	 */
+	long getImageCacheBytes();
+
+	/**
+	 * Get the hit rate of all image caches (since the last reset).
+	 *
+	 * @return the hit rate in [0,1]
+	 */
+	double getImageCacheHitRate();
+
+	/**
+	 * Indicates whether {@link GameConf#DEBUG} is set.
+	 *
+	 * @return {@code true} if debug mode
+	 */
+	boolean isDebug();
+
+	/**
+	 * Toggle {@link GameConf#DEBUG}.
+	 *
+	 * @return the new value
+	 */
+	boolean toggleDebug();
+
+	/**
+	 * Reset all counters (tick overruns, cache hit rate and the profiler).
+	 */
+	void resetCounters();
+}
@@ -0,0 +1,142 @@
+package rekit.gui;
+
+import rekit.config.GameConf;
+import rekit.config.Quality;
+import rekit.util.profiling.Histogram;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
+
+/**
+ * This class adapts {@link GameConf#QUALITY} (if {@link GameConf#AUTO_QUALITY}
+ * is set) to the mean durations of frames and ticks (see {@link Profiler}) of
+ * the last {@link #INTERVAL}: the load is the max. ratio of a mean duration to
+ * its budget ({@link GameConf#RENDER_DELTA} and {@link GameConf#LOGIC_DELTA}).
+ * To prevent oscillation, the quality will be lowered only after
+ * {@link #DOWN_INTERVALS} overloaded intervals and raised only after
+ * {@link #UP_INTERVALS} intervals with low load.<br>
+ * The governor shall only be used by the render thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class QualityGovernor {
+	/**
+	 * The length of an interval in nanos.
+	 */
+	private static final long INTERVAL = 1_000_000_000L;
+	/**
+	 * The load above which an interval is overloaded.
+	 */
+	private static final double HIGH_LOAD = 0.8;
+	/**
+	 * The load below which the quality may be raised.
+	 */
+	private static final double LOW_LOAD = 0.4;
+	/**
+	 * The amount of consecutive overloaded intervals to lower the quality.
+	 */
+	private static final int DOWN_INTERVALS = 2;
+	/**
+	 * The amount of consecutive intervals with low load to raise the quality.
+	 */
+	private static final int UP_INTERVALS = 5;
+
+	/**
+	 * The durations of the frames.
+	 */
+	private final Mean frames = new Mean(Profiler.get(Phase.FRAME));
+	/**
+	 * The durations of the ticks.
+	 */
+	private final Mean ticks = new Mean(Profiler.get(Phase.TICK));
+	/**
+	 * The start of the current interval (see {@link System#nanoTime()}).
+	 */
+	private long start = System.nanoTime();
+	/**
+	 * The amount of consecutive overloaded intervals.
+	 */
+	private int overloaded;
+	/**
+	 * The amount of consecutive intervals with low load.
+	 */
+	private int underloaded;
+
+	/**
+	 * Update the quality if the current interval has been finished.
+	 *
+	 * @param now
+	 *            the current time (see {@link System#nanoTime()})
+	 */
+	void update(long now) {
+		if (now - this.start < QualityGovernor.INTERVAL) {
+			return;
+		}
+		this.start = now;
+		double load = Math.max(this.frames.next() / (GameConf.RENDER_DELTA * 1E6), this.ticks.next() / (GameConf.LOGIC_DELTA * 1E6));
+		if (!GameConf.AUTO_QUALITY) {
+			this.overloaded = 0;
+			this.underloaded = 0;
+			return;
+		}
+
+		this.overloaded = load > QualityGovernor.HIGH_LOAD ? this.overloaded + 1 : 0;
+		this.underloaded = load < QualityGovernor.LOW_LOAD ? this.underloaded + 1 : 0;
+		Quality quality = GameConf.QUALITY;
+		if (this.overloaded >= QualityGovernor.DOWN_INTERVALS) {
+			this.overloaded = 0;
+			GameConf.QUALITY = quality.lower();
+		} else if (this.underloaded >= QualityGovernor.UP_INTERVALS) {
+			this.underloaded = 0;
+			GameConf.QUALITY = quality.higher();
+		}
+		if (quality != GameConf.QUALITY) {
+			GameConf.GAME_LOGGER.debug("Quality: " + quality + " -> " + GameConf.QUALITY + " (load " + load + ")");
+		}
+	}
+
+	/**
+	 * This class calculates the mean of the values of a {@link Histogram} which
+	 * have been recorded since the last request.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class Mean {
+		/**
+		 * The underlying histogram.
+		 */
+		private final Histogram histogram;
+		/**
+		 * The count of the histogram at the last request.
+		 */
+		private long lastCount;
+		/**
+		 * The sum of the histogram at the last request.
+		 */
+		private long lastSum;
+
+		private Mean(Histogram histogram) {
+			this.histogram = histogram;
+		}
+
+		/**
+		 * Get the mean since the last request.
+		 *
+		 * @return the mean in nanos or 0 if nothing has been recorded
+		 */
+		private double next() {
+			long count = this.histogram.getCount();
+			long sum = this.histogram.getSum();
+			if (count < this.lastCount) {
+				// histogram has been reset
+				this.lastCount = 0;
+				this.lastSum = 0;
+			}
+			double mean = count == this.lastCount ? 0 : (double) (sum - this.lastSum) / (count - this.lastCount);
+			this.lastCount = count;
+			this.lastSum = sum;
+			return mean;
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package rekit.gui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import rekit.config.GameConf;
+import rekit.logic.filters.Filter;
+import rekit.logic.filters.FilterEngine;
+import rekit.primitives.image.AbstractImage;
+import rekit.util.profiling.events.FilterEvent;
+
+/**
+ * This class realizes an atlas of all sprites (all images in the resources
+ * under "/images/"). The sprites are packed into one image, so that a
+ * {@link Filter} can be applied to all sprites at once (see
+ * {@link #filter(Filter)}).
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class SpriteAtlas {
+	/**
+	 * The width of the atlas (wider sprites will not be packed).
+	 */
+	private static final int WIDTH = 2048;
+	/**
+	 * The space between two sprites.
+	 */
+	private static final int PADDING = 1;
+
+	/**
+	 * The atlas (for drawing).
+	 */
+	private final AcceleratedImage image;
+	/**
+	 * The data of the (unfiltered) atlas for filtering.
+	 */
+	private final BufferedImage source;
+	/**
+	 * Path -&gt; Region in {@link #image}.
+	 */
+	private final Map<String, Rectangle> regions;
+
+	private SpriteAtlas(Image image, BufferedImage source, Map<String, Rectangle> regions) {
+		this.image = new AcceleratedImage(image);
+		this.source = source;
+		this.regions = regions;
+	}
+
+	/**
+	 * Create the atlas of all sprites.
+	 *
+	 * @return the atlas
+	 */
+	static SpriteAtlas create() {
+		long start = System.nanoTime();
+		List<String> paths = new ArrayList<>();
+		Map<String, BufferedImage> sprites = new HashMap<>();
+		for (String path : ImageManagement.getAllImagePaths()) {
+			BufferedImage sprite = (BufferedImage) ImageManagement.get(path, false, false);
+			if (sprite != null && sprite.getWidth() <= SpriteAtlas.WIDTH) {
+				paths.add(path);
+				sprites.put(path, sprite);
+			}
+		}
+		// Shelf packing (highest first)
+		paths.sort((a, b) -> Integer.compare(sprites.get(b).getHeight(), sprites.get(a).getHeight()));
+		Map<String, Rectangle> regions = new HashMap<>();
+		int x = 0;
+		int y = 0;
+		int shelf = 0;
+		for (String path : paths) {
+			BufferedImage sprite = sprites.get(path);
+			if (x + sprite.getWidth() > SpriteAtlas.WIDTH) {
+				x = 0;
+				y += shelf + SpriteAtlas.PADDING;
+				shelf = 0;
+			}
+			regions.put(path, new Rectangle(x, y, sprite.getWidth(), sprite.getHeight()));
+			x += sprite.getWidth() + SpriteAtlas.PADDING;
+			shelf = Math.max(shelf, sprite.getHeight());
+		}
+
+		BufferedImage atlas = new BufferedImage(SpriteAtlas.WIDTH, Math.max(1, y + shelf), BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		graphics.setComposite(AlphaComposite.Src);
+		for (Map.Entry<String, Rectangle> region : regions.entrySet()) {
+			graphics.drawImage(sprites.get(region.getKey()), region.getValue().x, region.getValue().y, null);
+		}
+		graphics.dispose();
+		GameConf.GAME_LOGGER.debug("SpriteAtlas: " + regions.size() + " sprites (" + atlas.getWidth() + "x" + atlas.getHeight() + ") in "
+				+ (System.nanoTime() - start) / 1_000_000 + " ms");
+		return new SpriteAtlas(atlas, atlas, Collections.unmodifiableMap(regions));
+	}
+
+	/**
+	 * Create a filtered version of this atlas (all sprites in one pass).
+	 *
+	 * @param filter
+	 *            the filter
+	 * @return the filtered atlas
+	 */
+	SpriteAtlas filter(Filter filter) {
+		long start = System.nanoTime();
+		FilterEvent event = new FilterEvent();
+		event.begin();
+		int w = this.source.getWidth();
+		int h = this.source.getHeight();
+		AbstractImage data = new AbstractImage(h, w, (int[]) this.source.getRaster().getDataElements(0, 0, w, h, null));
+		Image filtered = ImageManagement.toImage(FilterEngine.apply(filter, data));
+		if (event.shouldCommit()) {
+			event.filter = filter.getClass().getSimpleName();
+			event.target = "atlas";
+			event.commit();
+		}
+		GameConf.GAME_LOGGER.debug("SpriteAtlas: filtered by " + filter.getClass().getSimpleName() + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+		return new SpriteAtlas(filtered, this.source, this.regions);
+	}
+
+	/**
+	 * Draw a sprite.
+	 *
+	 * @param graphics
+	 *            the graphics
+	 * @param path
+	 *            the path of the sprite (relative to "/images/")
+	 * @param x
+	 *            the x position (top left corner)
+	 * @param y
+	 *            the y position (top left corner)
+	 * @param mirrorX
+	 *            mirror at X-Axis
+	 * @param mirrorY
+	 *            mirror at Y-Axis
+	 * @return {@code true} if drawn, {@code false} if the sprite is not part
+	 *         of the atlas
+	 */
+	boolean draw(Graphics2D graphics, String path, int x, int y, boolean mirrorX, boolean mirrorY) {
+		Rectangle region = this.regions.get(path);
+		if (region == null) {
+			return false;
+		}
+		int x1 = mirrorY ? x + region.width : x;
+		int x2 = mirrorY ? x : x + region.width;
+		int y1 = mirrorX ? y + region.height : y;
+		int y2 = mirrorX ? y : y + region.height;
+		graphics.drawImage(this.image.get(graphics.getDeviceConfiguration()), x1, y1, x2, y2, region.x, region.y, region.x + region.width, region.y + region.height, null);
+		return true;
+	}
+}
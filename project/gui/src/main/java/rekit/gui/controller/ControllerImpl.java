@@ -1,12 +1,6 @@
 package rekit.gui.controller;
 
 import java.awt.event.KeyEvent;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-
-import org.fuchss.tools.tuple.Tuple2;
-
 import rekit.config.GameConf;
 import rekit.gui.InputHelper;
 import rekit.gui.View;
@@ -19,6 +13,7 @@ import rekit.gui.controller.commands.JumpCommand;
 import rekit.gui.controller.commands.MenuCommand;
 import rekit.gui.controller.commands.MenuDirection;
 import rekit.gui.controller.commands.PlayPauseCommand;
+import rekit.gui.controller.commands.ProfilerCommand;
 import rekit.gui.controller.commands.WalkCommand;
 import rekit.logic.IScene;
 import rekit.logic.Model;
@@ -30,6 +25,7 @@ import rekit.logic.filters.RandomMode;
 import rekit.logic.gameelements.entities.StateEntity;
 import rekit.logic.gui.menu.MenuItem;
 import rekit.primitives.geometry.Direction;
+import rekit.util.LambdaUtil;
 
 /**
  * This is an implementation of an {@link Controller} of the MVC <br>
@@ -38,11 +34,15 @@ import rekit.primitives.geometry.Direction;
  * @author Dominik Fuchss
  *
  */
-final class ControllerImpl implements Observer, Controller, CommandSupervisor {
+final class ControllerImpl implements Controller, CommandSupervisor {
 	/**
-	 * Map State, Key-ID --&gt; Command.
+	 * The row of {@link #commands} for commands of all states.
 	 */
-	private Map<Tuple2<GameState, Integer>, Command> mpCmd;
+	private static final int ANY_STATE = GameState.values().length;
+	/**
+	 * Table State (ordinal or {@link #ANY_STATE}), Key-ID --&gt; Command.
+	 */
+	private final Command[][] commands = new Command[ControllerImpl.ANY_STATE + 1][InputHelperImpl.KEYS];
 	/**
 	 * The input helper.
 	 */
@@ -65,7 +65,6 @@ final class ControllerImpl implements Observer, Controller, CommandSupervisor {
 	 *            the view
 	 */
 	ControllerImpl(Model model, View view) {
-		this.mpCmd = new HashMap<>();
 		this.helper = new InputHelperImpl();
 		this.model = model;
 		this.view = view;
@@ -77,44 +76,61 @@ final class ControllerImpl implements Observer, Controller, CommandSupervisor {
 	 */
 	private void init() {
 		// Menu
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ESCAPE), new MenuCommand(this, MenuDirection.BACK));
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ENTER), new MenuCommand(this, MenuDirection.SELECT));
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ARROW_UP), new MenuCommand(this, MenuDirection.UP));
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ARROW_DOWN), new MenuCommand(this, MenuDirection.DOWN));
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ARROW_LEFT), new MenuCommand(this, MenuDirection.LEFT));
-		this.mpCmd.put(Tuple2.of(GameState.MENU, InputHelper.ARROW_RIGHT), new MenuCommand(this, MenuDirection.RIGHT));
+		this.put(GameState.MENU, InputHelper.ESCAPE, new MenuCommand(this, MenuDirection.BACK));
+		this.put(GameState.MENU, InputHelper.ENTER, new MenuCommand(this, MenuDirection.SELECT));
+		this.put(GameState.MENU, InputHelper.ARROW_UP, new MenuCommand(this, MenuDirection.UP));
+		this.put(GameState.MENU, InputHelper.ARROW_DOWN, new MenuCommand(this, MenuDirection.DOWN));
+		this.put(GameState.MENU, InputHelper.ARROW_LEFT, new MenuCommand(this, MenuDirection.LEFT));
+		this.put(GameState.MENU, InputHelper.ARROW_RIGHT, new MenuCommand(this, MenuDirection.RIGHT));
 
 		// Game
-		this.mpCmd.put(Tuple2.of(GameState.INGAME, InputHelper.ARROW_UP), new JumpCommand(this));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME, InputHelper.ARROW_LEFT), new WalkCommand(this, Direction.LEFT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME, InputHelper.ARROW_RIGHT), new WalkCommand(this, Direction.RIGHT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME, InputHelper.ESCAPE), new PlayPauseCommand(this));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME, InputHelper.SPACE), new AttackCommand(this));
+		this.put(GameState.INGAME, InputHelper.ARROW_UP, new JumpCommand(this));
+		this.put(GameState.INGAME, InputHelper.ARROW_LEFT, new WalkCommand(this, Direction.LEFT));
+		this.put(GameState.INGAME, InputHelper.ARROW_RIGHT, new WalkCommand(this, Direction.RIGHT));
+		this.put(GameState.INGAME, InputHelper.ESCAPE, new PlayPauseCommand(this));
+		this.put(GameState.INGAME, InputHelper.SPACE, new AttackCommand(this));
 
 		// pause menu
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ENTER), new MenuCommand(this, MenuDirection.SELECT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ARROW_UP), new MenuCommand(this, MenuDirection.UP));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ARROW_DOWN), new MenuCommand(this, MenuDirection.DOWN));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ARROW_LEFT), new MenuCommand(this, MenuDirection.LEFT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ARROW_RIGHT), new MenuCommand(this, MenuDirection.RIGHT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_PAUSED, InputHelper.ESCAPE), new PlayPauseCommand(this));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ENTER, new MenuCommand(this, MenuDirection.SELECT));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ARROW_UP, new MenuCommand(this, MenuDirection.UP));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ARROW_DOWN, new MenuCommand(this, MenuDirection.DOWN));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ARROW_LEFT, new MenuCommand(this, MenuDirection.LEFT));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ARROW_RIGHT, new MenuCommand(this, MenuDirection.RIGHT));
+		this.put(GameState.INGAME_PAUSED, InputHelper.ESCAPE, new PlayPauseCommand(this));
 
 		// end menu
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ESCAPE), new MenuCommand(this, MenuDirection.BACK));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ENTER), new MenuCommand(this, MenuDirection.SELECT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ARROW_UP), new MenuCommand(this, MenuDirection.UP));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ARROW_DOWN), new MenuCommand(this, MenuDirection.DOWN));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ARROW_LEFT), new MenuCommand(this, MenuDirection.LEFT));
-		this.mpCmd.put(Tuple2.of(GameState.INGAME_END, InputHelper.ARROW_RIGHT), new MenuCommand(this, MenuDirection.RIGHT));
+		this.put(GameState.INGAME_END, InputHelper.ESCAPE, new MenuCommand(this, MenuDirection.BACK));
+		this.put(GameState.INGAME_END, InputHelper.ENTER, new MenuCommand(this, MenuDirection.SELECT));
+		this.put(GameState.INGAME_END, InputHelper.ARROW_UP, new MenuCommand(this, MenuDirection.UP));
+		this.put(GameState.INGAME_END, InputHelper.ARROW_DOWN, new MenuCommand(this, MenuDirection.DOWN));
+		this.put(GameState.INGAME_END, InputHelper.ARROW_LEFT, new MenuCommand(this, MenuDirection.LEFT));
+		this.put(GameState.INGAME_END, InputHelper.ARROW_RIGHT, new MenuCommand(this, MenuDirection.RIGHT));
 
 		// Filter Commands ... a test ('u', 'i', 'o' and 'p' key)
-		this.mpCmd.put(Tuple2.of(null, KeyEvent.VK_U), new FilterCommand(true, this.model, Filter.get(RandomMode.class)));
-		this.mpCmd.put(Tuple2.of(null, KeyEvent.VK_I), new FilterCommand(true, this.model, Filter.get(InvertedMode.class)));
-		this.mpCmd.put(Tuple2.of(null, KeyEvent.VK_O), new FilterCommand(true, this.model, Filter.get(GrayScaleMode.class)));
-		this.mpCmd.put(Tuple2.of(null, KeyEvent.VK_P), new FilterCommand(false, this.model, null));
+		this.put(null, KeyEvent.VK_U, new FilterCommand(true, this.model, Filter.get(RandomMode.class)));
+		this.put(null, KeyEvent.VK_I, new FilterCommand(true, this.model, Filter.get(InvertedMode.class)));
+		this.put(null, KeyEvent.VK_O, new FilterCommand(true, this.model, Filter.get(GrayScaleMode.class)));
+		this.put(null, KeyEvent.VK_P, new FilterCommand(false, this.model, null));
+
+		// Dump the profiler ('F9' key)
+		this.put(null, KeyEvent.VK_F9, new ProfilerCommand());
 
 	}
 
+	/**
+	 * Define the command for a key.
+	 *
+	 * @param state
+	 *            the state or {@code null} for all states
+	 * @param id
+	 *            the key's id
+	 * @param command
+	 *            the command
+	 */
+	private void put(GameState state, int id, Command command) {
+		this.commands[state == null ? ControllerImpl.ANY_STATE : state.ordinal()][id] = command;
+	}
+
 	/**
 	 * Handle one key input event.
 	 *
@@ -125,38 +141,21 @@ final class ControllerImpl implements Observer, Controller, CommandSupervisor {
 	 *            {@code null}
 	 */
 	public void handleEvent(int id, InputMethod inputMethod) {
-		Tuple2<GameState, Integer> key = Tuple2.of(this.model.getState(), id);
-		Tuple2<GameState, Integer> idKey = Tuple2.of(null, id);
+		GameState state = this.model.getState();
+		Command command = this.commands[state.ordinal()][id] != null ? this.commands[state.ordinal()][id] : this.commands[ControllerImpl.ANY_STATE][id];
 		// return if we do not have a command defined for this key
-		if (this.mpCmd.containsKey(key)) {
-			this.mpCmd.get(key).execute(inputMethod);
+		if (command == null) {
+			GameConf.GAME_LOGGER.debug("No Event defined for Key-ID: " + id + " State: " + state);
 			return;
 		}
-		if (this.mpCmd.containsKey(idKey)) {
-			this.mpCmd.get(idKey).execute(inputMethod);
-			return;
-		}
-		GameConf.GAME_LOGGER.debug("No Event defined for Key-ID: " + id + " State: " + this.model.getState());
+		LambdaUtil.invoke(() -> command.execute(inputMethod));
 
 	}
 
 	@Override
 	public void start() {
 		this.helper.initialize(this.view);
-		this.helper.register(this);
-	}
-
-	@Override
-	public void update() {
-		Iterator<Integer> it = this.helper.getPressedKeyIterator();
-		while (it.hasNext()) {
-			this.handleEvent(it.next(), InputMethod.PRESS);
-		}
-		it = this.helper.getReleasedKeyIterator();
-		while (it.hasNext()) {
-			this.handleEvent(it.next(), InputMethod.RELEASE);
-			it.remove();
-		}
+		this.model.setInputHandler(() -> this.helper.poll(this::handleEvent));
 	}
 
 	@Override
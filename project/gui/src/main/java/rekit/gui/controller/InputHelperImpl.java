@@ -1,166 +1,168 @@
 package rekit.gui.controller;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.concurrent.ConcurrentSkipListSet;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import rekit.config.GameConf;
 import rekit.gui.InputHelper;
-import rekit.util.LambdaUtil;
-import rekit.util.ThreadUtils;
+import rekit.gui.controller.commands.InputMethod;
 
 /**
  * This class establishes a Listener to Components of the Shell<br>
- * Also {@link Observer Observers} can register to receive events.
+ * The key events will be stored in a lock-free ring buffer (single producer:
+ * the AWT event dispatch thread) and consumed once per logic tick by
+ * {@link #poll(KeyHandler)} (single consumer: the logic thread).
  *
  * @author Dominik Fuchss
  *
  */
 final class InputHelperImpl implements InputHelper {
-
 	/**
-	 * Instantiate the InputHelper.
+	 * The max. key code (exclusive) which will be handled.
 	 */
-	InputHelperImpl() {
-		ThreadUtils.runDaemon("InputHelper", this::run);
-	}
-
+	static final int KEYS = 256;
 	/**
-	 * The notifying method.
+	 * The capacity of the ring buffer (power of two).
 	 */
-	private void run() {
-		while (true) {
-			this.notifyObservers();
-			ThreadUtils.sleep(GameConf.LOGIC_DELTA);
-		}
-	}
-
+	private static final int CAPACITY = 256;
 	/**
-	 * List of all observers that registered to key changes.
+	 * The mask to map an index to a slot of the ring buffer.
 	 */
-	private List<Observer> observers = new ArrayList<>();
+	private static final int MASK = InputHelperImpl.CAPACITY - 1;
 
 	/**
-	 * List of all keyCodes that are currently pressed.
+	 * The ring buffer of events: (keyCode &lt;&lt; 1) | (pressed ? 1 : 0).
 	 */
-	private ConcurrentSkipListSet<Integer> pressedKeys = new ConcurrentSkipListSet<>();
-
+	private final int[] events = new int[InputHelperImpl.CAPACITY];
+	/**
+	 * The index of the next event to read (only written by the consumer).
+	 */
+	private final AtomicLong head = new AtomicLong();
 	/**
-	 * List of all keyCodes that have just been released.
+	 * The index of the next event to write (only written by the producer).
 	 */
-	private ConcurrentSkipListSet<Integer> releasedKeys = new ConcurrentSkipListSet<>();
+	private final AtomicLong tail = new AtomicLong();
 
 	/**
-	 * The lock to synchronize {@link #press(int)} and {@link #release(int)}.
+	 * All keyCodes that are currently pressed (consumer only).
 	 */
-	private final Lock lock = new ReentrantLock();
+	private final BitSet pressedKeys = new BitSet(InputHelperImpl.KEYS);
+	/**
+	 * All keyCodes that have been pressed since the last poll (consumer only).
+	 */
+	private final BitSet newKeys = new BitSet(InputHelperImpl.KEYS);
+	/**
+	 * All keyCodes that have just been released (consumer only).
+	 */
+	private final BitSet releasedKeys = new BitSet(InputHelperImpl.KEYS);
 
 	/**
-	 * Adds a pressed keys keyCode to the List and notifies observers.
+	 * Adds a pressed keys keyCode to the buffer.
 	 *
 	 * @param code
 	 *            the keyCode of the just pressed key
 	 */
 	@Override
 	public void press(int code) {
-		try {
-			this.lock.lock();
-			this.pressedKeys.add(code);
-			this.releasedKeys.remove(code);
-		} finally {
-			this.lock.unlock();
-		}
+		this.offer(code, true);
 	}
 
 	/**
-	 * Remove a released keys keyCode to the List and notifies observers.
+	 * Adds a released keys keyCode to the buffer.
 	 *
 	 * @param code
 	 *            the keyCode of the just released key
 	 */
 	@Override
 	public void release(int code) {
-		try {
-			this.lock.lock();
-			this.releasedKeys.add(code);
-			this.pressedKeys.remove(code);
-		} finally {
-			this.lock.unlock();
-		}
+		this.offer(code, false);
 	}
 
 	/**
-	 * Get an Iterator to iterate over all pressed keys keyCodes.
+	 * Add an event to the ring buffer. If the buffer is full, the event will be
+	 * dropped.
 	 *
-	 * @return the Iterator for all pressed keyCodes
+	 * @param code
+	 *            the keyCode
+	 * @param pressed
+	 *            indicates whether the key has been pressed or released
 	 */
-	public Iterator<Integer> getPressedKeyIterator() {
-		return this.pressedKeys.iterator();
+	private void offer(int code, boolean pressed) {
+		if (code < 0 || code >= InputHelperImpl.KEYS) {
+			GameConf.GAME_LOGGER.debug("Key-ID not supported: " + code);
+			return;
+		}
+		long t = this.tail.get();
+		if (t - this.head.get() == InputHelperImpl.CAPACITY) {
+			GameConf.GAME_LOGGER.warn("Input buffer full, dropped Key-ID: " + code);
+			return;
+		}
+		this.events[(int) t & InputHelperImpl.MASK] = code << 1 | (pressed ? 1 : 0);
+		// publish the event
+		this.tail.lazySet(t + 1);
 	}
 
 	/**
-	 * Get an Iterator to iterate over all pressed keys keyCodes.
+	 * Consume all buffered events and invoke the handler:
+	 * {@link InputMethod#PRESS} for all pressed keys (incl. keys which have
+	 * been pressed and released since the last poll), then
+	 * {@link InputMethod#RELEASE} for all released keys. A release which is
+	 * directly followed by a press of the same key (key repeat) will be
+	 * ignored.
 	 *
-	 * @return the Iterator for all pressed keyCodes
-	 */
-	public Iterator<Integer> getReleasedKeyIterator() {
-		return this.releasedKeys.iterator();
-	}
-
-	/**
-	 * Synchronization Lock that is used as a lock variable for blocking
-	 * operations.
+	 * @param handler
+	 *            the handler
 	 */
-	private final Lock observerLock = new ReentrantLock();
-
-	/**
-	 * Used to tell all Observers that something important changed Iterates all
-	 * Observers and invokes every {@link Observer#update()}.
-	 */
-	private void notifyObservers() {
-		List<Observer> obs = new ArrayList<>();
-		try {
-			this.observerLock.lock();
-			this.observers.forEach(obs::add);
-		} finally {
-			this.observerLock.unlock();
+	void poll(KeyHandler handler) {
+		long h = this.head.get();
+		long t = this.tail.get();
+		for (; h < t; h++) {
+			int event = this.events[(int) h & InputHelperImpl.MASK];
+			int code = event >>> 1;
+			if ((event & 1) != 0) {
+				if (!this.pressedKeys.get(code)) {
+					this.newKeys.set(code);
+				}
+				this.pressedKeys.set(code);
+				this.releasedKeys.clear(code);
+			} else {
+				this.pressedKeys.clear(code);
+				this.releasedKeys.set(code);
+			}
 		}
-		LambdaUtil.invoke(() -> obs.forEach(o -> o.update()));
-	}
+		this.head.lazySet(t);
 
-	/**
-	 * Adds an Observer to the List that will be notified every time something
-	 * important changes.
-	 *
-	 * @param observer
-	 *            The Observer that wants to listen
-	 */
-	public void register(Observer observer) {
-		try {
-			this.observerLock.lock();
-			this.observers.add(observer);
-		} finally {
-			this.observerLock.unlock();
+		for (int code = this.pressedKeys.nextSetBit(0); code >= 0; code = this.pressedKeys.nextSetBit(code + 1)) {
+			handler.handle(code, InputMethod.PRESS);
+		}
+		// keys which have been pressed and released since the last poll
+		this.newKeys.andNot(this.pressedKeys);
+		for (int code = this.newKeys.nextSetBit(0); code >= 0; code = this.newKeys.nextSetBit(code + 1)) {
+			handler.handle(code, InputMethod.PRESS);
 		}
+		for (int code = this.releasedKeys.nextSetBit(0); code >= 0; code = this.releasedKeys.nextSetBit(code + 1)) {
+			handler.handle(code, InputMethod.RELEASE);
+		}
+		this.newKeys.clear();
+		this.releasedKeys.clear();
 	}
 
 	/**
-	 * Removes an Observer from the List to prevent further notification of
-	 * changes.
+	 * The handler of key events.
+	 *
+	 * @author Dominik Fuchss
 	 *
-	 * @param observer
-	 *            The Observer that does not want to listen anymore
 	 */
-	public void unregister(Observer observer) {
-		try {
-			this.observerLock.lock();
-			this.observers.remove(observer);
-		} finally {
-			this.observerLock.unlock();
-		}
+	@FunctionalInterface
+	interface KeyHandler {
+		/**
+		 * Handle one key event.
+		 *
+		 * @param code
+		 *            the keyCode
+		 * @param inputMethod
+		 *            {@link InputMethod#RELEASE} or {@link InputMethod#PRESS}
+		 */
+		void handle(int code, InputMethod inputMethod);
 	}
-
 }
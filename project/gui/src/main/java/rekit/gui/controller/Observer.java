@@ -1,14 +0,0 @@
-package rekit.gui.controller;
-
-/**
- * This interface represents a Observer of the Observer Pattern.
- *
- * @author Dominik Fuchss
- *
- */
-public interface Observer {
-	/**
-	 * Will be invoked when the observer shall get it's update.
-	 */
-	void update();
-}
@@ -0,0 +1,43 @@
+package rekit.gui.controller.commands;
+
+import java.io.File;
+import java.io.IOException;
+
+import rekit.config.GameConf;
+import rekit.persistence.DirFileDefinitions;
+import rekit.util.ThreadUtils;
+import rekit.util.profiling.Profiler;
+
+/**
+ * This Command Type is used for dumping the {@link Profiler} as CSV to
+ * {@link #PROFILE_DIR} (the recorded durations will be reset afterwards, so
+ * each dump covers the time since the last one). <br>
+ * <b>Only for testing purposes</b>
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class ProfilerCommand implements Command {
+	/**
+	 * The directory of the dumps.
+	 */
+	public static final File PROFILE_DIR = new File(DirFileDefinitions.BASE.getAbsolutePath() + "/profiles");
+
+	@Override
+	public void execute(Object... params) {
+		if (params.length != 1 || params[0] != InputMethod.RELEASE) {
+			return;
+		}
+		// do not disturb the logic thread by IO
+		ThreadUtils.runDaemon("Profiler", () -> {
+			try {
+				File file = Profiler.dump(ProfilerCommand.PROFILE_DIR);
+				Profiler.reset();
+				GameConf.GAME_LOGGER.info("Profile written to " + file.getAbsolutePath());
+			} catch (IOException e) {
+				GameConf.GAME_LOGGER.error("Profile could not be written: " + e.getMessage());
+			}
+		});
+	}
+
+}
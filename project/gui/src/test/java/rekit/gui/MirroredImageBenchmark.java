@@ -0,0 +1,103 @@
+package rekit.gui;
+
+import java.awt.Image;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AffineTransformOp;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import rekit.config.GameConf;
+
+/**
+ * Benchmark of the requests of mirrored images (as entities do on every
+ * frame): the cached variants of {@link ImageManagement} must not allocate an
+ * image per request, the former per-request {@link AffineTransformOp} is
+ * measured for comparison. Only run by the benchmark profile
+ * ({@code mvn test -Pbenchmark}); the results will be logged by
+ * {@link GameConf#GAME_LOGGER}.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public class MirroredImageBenchmark {
+	/**
+	 * The image (the player).
+	 */
+	private static final String IMAGE = "mrRekt_glasses_right.png";
+	/**
+	 * The amount of requests per measurement (one per frame for about five
+	 * minutes).
+	 */
+	private static final int FRAMES = 20_000;
+
+	@BeforeClass
+	public static void enableLogging() {
+		Configurator.setLevel(GameConf.GAME_LOGGER.getName(), Level.INFO);
+	}
+
+	@Test
+	public void cachedVariant() {
+		Image image = ImageManagement.get(MirroredImageBenchmark.IMAGE, false, true);
+		Assert.assertNotNull(image);
+		Assert.assertSame(image, ImageManagement.get(MirroredImageBenchmark.IMAGE, false, true));
+
+		long bytes = MirroredImageBenchmark.bytesPerFrame("Cached variant", () -> ImageManagement.get(MirroredImageBenchmark.IMAGE, false, true));
+		// the lookup key only, not a single row of pixels
+		Assert.assertTrue(bytes < image.getWidth(null) * 4);
+	}
+
+	@Test
+	public void perRequestTransform() {
+		MirroredImageBenchmark.bytesPerFrame("AffineTransformOp", () -> MirroredImageBenchmark.mirror((BufferedImage) ImageManagement.get(MirroredImageBenchmark.IMAGE, false, false)));
+	}
+
+	/**
+	 * Request an image once per frame and log the allocated bytes and the time
+	 * per frame.
+	 *
+	 * @param name
+	 *            the name of the kind of request
+	 * @param request
+	 *            the request
+	 * @return the mean allocated bytes of a frame (after as many frames for
+	 *         warm up)
+	 */
+	private static long bytesPerFrame(String name, Supplier<Image> request) {
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		long start = 0;
+		long time = 0;
+		for (int frame = 0; frame < 2 * MirroredImageBenchmark.FRAMES; frame++) {
+			if (frame == MirroredImageBenchmark.FRAMES) {
+				start = threads.getThreadAllocatedBytes(thread);
+				time = System.nanoTime();
+			}
+			Assert.assertNotNull(request.get());
+		}
+		long bytes = (threads.getThreadAllocatedBytes(thread) - start) / MirroredImageBenchmark.FRAMES;
+		GameConf.GAME_LOGGER.info(name + ": " + bytes + " bytes, " + (System.nanoTime() - time) / MirroredImageBenchmark.FRAMES + " ns per frame");
+		return bytes;
+	}
+
+	/**
+	 * The former request: mirror (at Y-Axis) on every request.
+	 *
+	 * @param image
+	 *            the original image
+	 * @return the mirrored image
+	 */
+	private static BufferedImage mirror(BufferedImage image) {
+		AffineTransform tx = AffineTransform.getScaleInstance(-1, 1);
+		tx.translate(-image.getWidth(), 0);
+		return new AffineTransformOp(tx, AffineTransformOp.TYPE_NEAREST_NEIGHBOR).filter(image, null);
+	}
+}
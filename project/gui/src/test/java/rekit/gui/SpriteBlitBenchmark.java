@@ -0,0 +1,138 @@
+package rekit.gui;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import rekit.config.GameConf;
+
+/**
+ * Benchmark of the blits of sprites onto an off-screen back buffer of the size
+ * of the default configuration (22x9 blocks of 50 pixels). The back buffer is
+ * a compatible image of the default screen or, in headless mode, a RGB image
+ * (only software loops). The sprites will be drawn from images created by
+ * {@link ImageManagement#toImage(rekit.primitives.image.AbstractImage)} (as
+ * filtered images), from {@link AcceleratedImage AcceleratedImages} and from
+ * compatible images. Only run by the benchmark
+ * profile ({@code mvn test -Pbenchmark}); the results will be logged by
+ * {@link GameConf#GAME_LOGGER}.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public class SpriteBlitBenchmark {
+	/**
+	 * The size of a block in pixels.
+	 */
+	private static final int BLOCK = 50;
+	/**
+	 * The amount of blocks per row.
+	 */
+	private static final int COLUMNS = 22;
+	/**
+	 * The amount of rows.
+	 */
+	private static final int ROWS = 9;
+	/**
+	 * The amount of timed frames.
+	 */
+	private static final int FRAMES = 1000;
+
+	/**
+	 * The back buffer.
+	 */
+	private static BufferedImage target;
+	/**
+	 * The configuration of {@link #target}.
+	 */
+	private static GraphicsConfiguration config;
+	/**
+	 * The sprites (see
+	 * {@link ImageManagement#toImage(rekit.primitives.image.AbstractImage)}).
+	 */
+	private static List<Image> sprites = new ArrayList<>();
+
+	@BeforeClass
+	public static void setUp() {
+		Configurator.setLevel(GameConf.GAME_LOGGER.getName(), Level.INFO);
+		int w = SpriteBlitBenchmark.COLUMNS * SpriteBlitBenchmark.BLOCK;
+		int h = SpriteBlitBenchmark.ROWS * SpriteBlitBenchmark.BLOCK;
+		if (GraphicsEnvironment.isHeadless()) {
+			SpriteBlitBenchmark.target = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+		} else {
+			SpriteBlitBenchmark.target = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(w, h);
+		}
+		Graphics2D graphics = SpriteBlitBenchmark.target.createGraphics();
+		SpriteBlitBenchmark.config = graphics.getDeviceConfiguration();
+		graphics.dispose();
+
+		for (String path : ImageManagement.getAllImagePaths()) {
+			SpriteBlitBenchmark.sprites.add(ImageManagement.toImage(ImageManagement.getAsAbstractImage(path, false, false)));
+		}
+		Assert.assertFalse(SpriteBlitBenchmark.sprites.isEmpty());
+		GameConf.GAME_LOGGER.info(SpriteBlitBenchmark.sprites.size() + " sprites, " + w + "x" + h + " " + SpriteBlitBenchmark.config.getClass().getSimpleName());
+	}
+
+	@Test
+	public void abstractImages() {
+		SpriteBlitBenchmark.blit("toImage", SpriteBlitBenchmark.sprites.toArray(new Image[0]));
+	}
+
+	@Test
+	public void acceleratedImages() {
+		Image[] images = new Image[SpriteBlitBenchmark.sprites.size()];
+		for (int i = 0; i < images.length; i++) {
+			AcceleratedImage image = new AcceleratedImage(SpriteBlitBenchmark.sprites.get(i));
+			images[i] = image.get(SpriteBlitBenchmark.config);
+			// validated, not recreated
+			Assert.assertSame(images[i], image.get(SpriteBlitBenchmark.config));
+		}
+		SpriteBlitBenchmark.blit("AcceleratedImage", images);
+	}
+
+	@Test
+	public void compatibleImages() {
+		Image[] images = new Image[SpriteBlitBenchmark.sprites.size()];
+		for (int i = 0; i < images.length; i++) {
+			images[i] = AcceleratedImage.toCompatible(SpriteBlitBenchmark.sprites.get(i), SpriteBlitBenchmark.config);
+		}
+		SpriteBlitBenchmark.blit("Compatible", images);
+	}
+
+	/**
+	 * Render frames (each image scaled to a block as the game does) and log
+	 * the time per blit.
+	 *
+	 * @param name
+	 *            the name of the kind of images
+	 * @param images
+	 *            the images
+	 */
+	private static void blit(String name, Image[] images) {
+		long start = 0;
+		for (int frame = 0; frame < 2 * SpriteBlitBenchmark.FRAMES; frame++) {
+			if (frame == SpriteBlitBenchmark.FRAMES) {
+				start = System.nanoTime();
+			}
+			Graphics2D graphics = SpriteBlitBenchmark.target.createGraphics();
+			for (int i = 0; i < images.length; i++) {
+				int x = i % SpriteBlitBenchmark.COLUMNS * SpriteBlitBenchmark.BLOCK;
+				int y = i / SpriteBlitBenchmark.COLUMNS % SpriteBlitBenchmark.ROWS * SpriteBlitBenchmark.BLOCK;
+				graphics.drawImage(images[i], x, y, SpriteBlitBenchmark.BLOCK, SpriteBlitBenchmark.BLOCK, null);
+			}
+			graphics.dispose();
+		}
+		long nanos = (System.nanoTime() - start) / SpriteBlitBenchmark.FRAMES / images.length;
+		GameConf.GAME_LOGGER.info(name + ": " + nanos + " ns per blit");
+	}
+}
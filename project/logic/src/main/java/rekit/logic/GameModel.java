@@ -1,5 +1,6 @@
 package rekit.logic;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
@@ -11,6 +12,10 @@ import rekit.logic.gameelements.entities.Player;
 import rekit.logic.gui.menu.MenuItem;
 import rekit.logic.scene.Scenes;
 import rekit.util.ThreadUtils;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
+import rekit.util.profiling.events.SceneSwitchEvent;
+import rekit.util.profiling.events.TickEvent;
 
 /**
  * Main class of the Model. Manages the logic.
@@ -40,17 +45,27 @@ public class GameModel implements Model {
 	 * Indicates a filter change.
 	 */
 	private boolean filterChange;
+	/**
+	 * The handler of the user input.
+	 */
+	private volatile Runnable inputHandler;
+	/**
+	 * The amount of ticks which took longer than {@link GameConf#LOGIC_DELTA}
+	 * (counted by the logic thread, read by the monitor).
+	 */
+	private final AtomicLong tickOverruns = new AtomicLong();
 
 	/**
 	 * Get a new model.
 	 */
 	public GameModel() {
 		this.end = false;
-		GameElementFactory.initialize();
 	}
 
 	@Override
 	public void start() {
+		// Prototypes have to be loaded before any scene
+		GameElementFactory.initialize();
 		this.switchScene(Scenes.MAIN_MENU);
 		ThreadUtils.runDaemon("GameModel", this::playGame);
 	}
@@ -60,6 +75,11 @@ public class GameModel implements Model {
 		this.end = true;
 	}
 
+	@Override
+	public void setInputHandler(Runnable handler) {
+		this.inputHandler = handler;
+	}
+
 	/**
 	 * This method will be invoked by the logic thread.
 	 */
@@ -67,8 +87,29 @@ public class GameModel implements Model {
 		// repeat until player is dead
 		while (!this.end) {
 			long before = System.currentTimeMillis();
+			long tick = Profiler.start();
+			TickEvent event = new TickEvent();
+			event.begin();
+			GameTime.tick();
+			Runnable input = this.inputHandler;
+			if (input != null) {
+				input.run();
+			}
 			this.scene.logicLoop();
+			Filter current = this.getCurrentFilter();
+			if (current != null) {
+				current.logicLoop();
+			}
+			Profiler.lap(Phase.TICK, tick);
+			if (event.shouldCommit()) {
+				event.scene = this.scene.getClass().getSimpleName();
+				event.elements = this.scene.getGameElementCount();
+				event.commit();
+			}
 			long after = System.currentTimeMillis();
+			if (after - before > GameConf.LOGIC_DELTA) {
+				this.tickOverruns.incrementAndGet();
+			}
 			ThreadUtils.sleep(GameConf.LOGIC_DELTA - (after - before));
 		}
 	}
@@ -90,13 +131,18 @@ public class GameModel implements Model {
 	 *            the new scene's constructor.
 	 */
 	public void switchScene(Function<GameModel, ILevelScene> constructor) {
+		SceneSwitchEvent event = new SceneSwitchEvent();
+		event.begin();
+		GameTime.tick();
 		IScene nextScene = constructor.apply(this);
 		this.removeFilter();
 		nextScene.init();
 		nextScene.start();
+		IScene previous = this.scene;
 		this.scene = nextScene;
 		this.state = GameState.INGAME;
 		GameTime.resume();
+		this.commit(event, previous);
 	}
 
 	/**
@@ -111,6 +157,9 @@ public class GameModel implements Model {
 	 *            pass options to the scene (e.g. the arcade level id)
 	 */
 	public void switchScene(Scenes s, String... options) {
+		SceneSwitchEvent event = new SceneSwitchEvent();
+		event.begin();
+		GameTime.tick();
 		IScene nextScene = s.getNewScene(this, options);
 		if (nextScene == null) {
 			return;
@@ -118,9 +167,28 @@ public class GameModel implements Model {
 		this.removeFilter();
 		nextScene.init();
 		nextScene.start();
+		IScene previous = this.scene;
 		this.scene = nextScene;
 		this.state = Scenes.getByInstance(this.scene).isMenu() ? GameState.MENU : GameState.INGAME;
 		GameTime.resume();
+		this.commit(event, previous);
+	}
+
+	/**
+	 * Commit the event of a scene switch (if recording).
+	 *
+	 * @param event
+	 *            the event
+	 * @param previous
+	 *            the previous scene or {@code null}
+	 */
+	private void commit(SceneSwitchEvent event, IScene previous) {
+		if (!event.shouldCommit()) {
+			return;
+		}
+		event.from = previous == null ? null : previous.getClass().getSimpleName();
+		event.to = this.scene.getClass().getSimpleName();
+		event.commit();
 	}
 
 	@Override
@@ -128,6 +196,11 @@ public class GameModel implements Model {
 		return this.scene;
 	}
 
+	@Override
+	public long getTickOverruns() {
+		return this.tickOverruns.get();
+	}
+
 	/**
 	 * Return player.
 	 *
@@ -188,6 +261,20 @@ public class GameModel implements Model {
 
 	}
 
+	/**
+	 * Get the current filter without resetting {@link #filterChanged()}.
+	 *
+	 * @return the current filter or {@code null}
+	 */
+	private Filter getCurrentFilter() {
+		try {
+			this.filterLock.lock();
+			return this.filter;
+		} finally {
+			this.filterLock.unlock();
+		}
+	}
+
 	@Override
 	public Filter getFilter() {
 		try {
@@ -103,6 +103,14 @@ public interface IScene {
 	 */
 	Model getModel();
 
+	/**
+	 * Get the scheduler of the scene. Its tasks will be advanced by
+	 * {@link #logicLoop()} (unless the scene is paused).
+	 *
+	 * @return the scheduler
+	 */
+	Scheduler getScheduler();
+
 	/**
 	 * Invoke logic.
 	 *
@@ -130,9 +138,9 @@ public interface IScene {
 	}
 
 	/**
-	 * Get a map of duration-time of elements.
+	 * Get a map of duration-time of elements (since the last invocation).
 	 *
-	 * @return the duration-time of elements by class
+	 * @return the duration-time of elements by class in nanos
 	 */
 	Map<String, Long> getGameElementDurations();
 
@@ -143,6 +151,38 @@ public interface IScene {
 	 */
 	int getGameElementCount();
 
+	/**
+	 * Get the epoch of the game elements. The epoch changes whenever game
+	 * elements have been added or removed.
+	 *
+	 * @return the epoch
+	 */
+	long getEpoch();
+
+	/**
+	 * Get the amount of game elements by class. The amounts will be maintained
+	 * whenever game elements have been added or removed (see
+	 * {@link #getEpoch()}), so this method does not iterate the elements.
+	 *
+	 * @return the immutable amounts by simple class name
+	 */
+	Map<String, Integer> getGameElementCountByClass();
+
+	/**
+	 * Get the amount of game elements which will be added with the next tick.
+	 *
+	 * @return the amount of pending additions
+	 */
+	int getPendingAdditions();
+
+	/**
+	 * Get the amount of game elements which will be removed with the next
+	 * tick.
+	 *
+	 * @return the amount of pending removals
+	 */
+	int getPendingRemovals();
+
 	/**
 	 * Get the associated Root-MenuItem.
 	 *
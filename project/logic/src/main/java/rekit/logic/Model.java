@@ -3,6 +3,7 @@ package rekit.logic;
 import java.util.function.Function;
 import java.util.logging.Level;
 
+import rekit.config.GameConf;
 import rekit.core.GameTime;
 import rekit.logic.filters.Filter;
 import rekit.logic.gameelements.entities.Player;
@@ -49,6 +50,15 @@ public interface Model {
 	 */
 	void end();
 
+	/**
+	 * Set the handler of the user input. The handler will be invoked by the
+	 * logic thread once per tick (before the logic of the scene).
+	 *
+	 * @param handler
+	 *            the handler
+	 */
+	void setInputHandler(Runnable handler);
+
 	/**
 	 * Get the current scene. The scene to be drawn.
 	 *
@@ -56,6 +66,14 @@ public interface Model {
 	 */
 	IScene getScene();
 
+	/**
+	 * Get the amount of logic ticks which took longer than
+	 * {@link GameConf#LOGIC_DELTA} since the start.
+	 *
+	 * @return the amount of tick overruns
+	 */
+	long getTickOverruns();
+
 	/**
 	 * Get the current state.
 	 *
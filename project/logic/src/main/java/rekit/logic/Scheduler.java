@@ -0,0 +1,111 @@
+package rekit.logic;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import rekit.config.GameConf;
+import rekit.core.GameTime;
+import rekit.primitives.time.TimerWheel;
+
+/**
+ * This class realizes a scheduler for delayed actions and multi-step sequences
+ * of a scene. All tasks are advanced by the logic thread of the scene (once per
+ * logic tick), so they neither need an own thread nor synchronization with
+ * the game elements. While the scene is paused, no task will be advanced.<br>
+ * Delayed actions will be registered in a {@link TimerWheel}, so that they
+ * cost nothing until their deadline has been reached.
+ *
+ * @author Dominik Fuchss
+ * @see IScene#getScheduler()
+ *
+ */
+public final class Scheduler {
+	/**
+	 * The tasks which have been scheduled since the last tick.
+	 */
+	private final Queue<Task> added = new ConcurrentLinkedQueue<>();
+	/**
+	 * The active tasks.
+	 */
+	private final List<Task> tasks = new ArrayList<>();
+	/**
+	 * The wheel of the delayed actions (logic thread only).
+	 */
+	private final TimerWheel wheel = new TimerWheel(GameConf.LOGIC_DELTA, GameTime.getTickTime());
+
+	/**
+	 * Run a task once per logic tick (beginning with the next tick) until it
+	 * has finished.
+	 *
+	 * @param task
+	 *            the task
+	 */
+	public void run(Task task) {
+		this.added.add(task);
+	}
+
+	/**
+	 * Execute an action after a specified time (game time; see
+	 * {@link GameTime#getTickTime()}). The action will be executed by the
+	 * first tick after the deadline.
+	 *
+	 * @param delay
+	 *            the time to wait in millis
+	 * @param action
+	 *            the action
+	 */
+	public void schedule(long delay, Runnable action) {
+		long deadline = GameTime.getTickTime() + delay;
+		this.run(() -> {
+			this.wheel.schedule(deadline, action);
+			return true;
+		});
+	}
+
+	/**
+	 * Advance all tasks. This method shall only be invoked by the logic thread
+	 * of the scene.
+	 */
+	public void logicLoop() {
+		Task task;
+		while ((task = this.added.poll()) != null) {
+			this.tasks.add(task);
+		}
+		Iterator<Task> it = this.tasks.iterator();
+		while (it.hasNext()) {
+			if (it.next().step()) {
+				it.remove();
+			}
+		}
+		this.wheel.advance(GameTime.getTickTime());
+	}
+
+	/**
+	 * Remove all tasks and delayed actions.
+	 */
+	public void clear() {
+		this.added.clear();
+		this.tasks.clear();
+		this.wheel.clear(GameTime.getTickTime());
+	}
+
+	/**
+	 * This interface defines a resumable task of the {@link Scheduler}.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	@FunctionalInterface
+	public interface Task {
+		/**
+		 * Perform the next step of the task.
+		 *
+		 * @return {@code true} if the task has finished, {@code false} if it
+		 *         shall be resumed in the next tick
+		 */
+		boolean step();
+	}
+}
@@ -63,6 +63,25 @@ public interface Filter {
 		return false;
 	}
 
+	/**
+	 * This method will be invoked once per logic tick while the filter is
+	 * active (e.g. to update an internal state; see {@link #changed()}).
+	 */
+	default void logicLoop() {
+	}
+
+	/**
+	 * Indicates whether {@link #apply(AbstractImage)} can handle packed images
+	 * (see {@link AbstractImage#isPacked()}). Other filters (e.g. of mods which
+	 * read {@link AbstractImage#pixels}) will get RGBA images (see
+	 * {@link FilterEngine#apply(Filter, AbstractImage)}).
+	 *
+	 * @return {@code true} if packed images are supported
+	 */
+	default boolean supportsPacked() {
+		return false;
+	}
+
 	/**
 	 * Apply Filter.
 	 *
@@ -75,13 +94,17 @@ public interface Filter {
 	}
 
 	/**
-	 * Apply Filter.
+	 * Apply Filter. By default {@link #apply(RGBAColor)} will be applied to
+	 * every pixel by the {@link FilterEngine} (if {@link #isApplyPixel()}).
 	 *
 	 * @param imageData
 	 *            the original data
 	 * @return the new Data
 	 */
 	default AbstractImage apply(final AbstractImage imageData) {
-		throw new UnsupportedOperationException("Not supported by " + this.getClass().getSimpleName());
+		if (!this.isApplyPixel()) {
+			throw new UnsupportedOperationException("Not supported by " + this.getClass().getSimpleName());
+		}
+		return FilterEngine.apply(imageData, argb -> this.apply(new RGBAColor(argb)).toARGB());
 	}
 }
@@ -0,0 +1,160 @@
+package rekit.logic.filters;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+
+import rekit.primitives.image.AbstractImage;
+
+/**
+ * This class realizes the shared engine for applying a per pixel operation to
+ * an {@link AbstractImage}. Large images will be split into row ranges which
+ * are processed by the common {@link ForkJoinPool}; small images (e.g. most
+ * sprites) will be processed sequentially in the calling thread.
+ *
+ * @author Dominik Fuchss
+ * @see Filter#apply(AbstractImage)
+ *
+ */
+public final class FilterEngine {
+	/**
+	 * The max. amount of pixels which will be processed sequentially.
+	 */
+	static final int THRESHOLD = 1 << 14;
+	/**
+	 * Access to one RGBA pixel (4 bytes) as int.
+	 */
+	private static final VarHandle RGBA = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * Prevent instantiation.
+	 */
+	private FilterEngine() {
+	}
+
+	/**
+	 * Apply a filter to an image. Packed images will be converted to RGBA
+	 * images if the filter does not {@link Filter#supportsPacked() support}
+	 * them.
+	 *
+	 * @param filter
+	 *            the filter
+	 * @param image
+	 *            the image
+	 * @return the new image
+	 */
+	public static AbstractImage apply(Filter filter, AbstractImage image) {
+		return filter.apply(filter.supportsPacked() ? image : image.toRGBA());
+	}
+
+	/**
+	 * Apply an operation to all pixels of an image. Packed images (see
+	 * {@link AbstractImage#isPacked()}) will be processed in place on a copy of
+	 * their array.
+	 *
+	 * @param image
+	 *            the image
+	 * @param operation
+	 *            the operation (ARGB -&gt; ARGB, see
+	 *            {@link rekit.primitives.image.RGBAColor#RGBAColor(int)})
+	 * @return the new image
+	 */
+	public static AbstractImage apply(AbstractImage image, IntUnaryOperator operation) {
+		AbstractImage result = image.isPacked() //
+				? new AbstractImage(image.height, image.width, image.argb.clone()) //
+				: new AbstractImage(image.height, image.width, new byte[image.pixels.length]);
+		RowTask task = new RowTask(image, result, operation, 0, image.height);
+		if ((long) image.width * image.height <= FilterEngine.THRESHOLD) {
+			task.compute();
+		} else {
+			ForkJoinPool.commonPool().invoke(task);
+		}
+		return result;
+	}
+
+	/**
+	 * Apply an operation to a range of packed pixels (in place).
+	 *
+	 * @param argb
+	 *            the data (ARGB)
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param operation
+	 *            the operation
+	 */
+	private static void apply(int[] argb, int from, int to, IntUnaryOperator operation) {
+		for (int i = from; i < to; i++) {
+			argb[i] = operation.applyAsInt(argb[i]);
+		}
+	}
+
+	/**
+	 * Apply an operation to a range of RGBA pixels.
+	 *
+	 * @param src
+	 *            the original data (RGBA)
+	 * @param dst
+	 *            the result data (RGBA)
+	 * @param from
+	 *            the first index (inclusive)
+	 * @param to
+	 *            the last index (exclusive)
+	 * @param operation
+	 *            the operation
+	 */
+	private static void apply(byte[] src, byte[] dst, int from, int to, IntUnaryOperator operation) {
+		for (int i = from; i < to; i += 4) {
+			int argb = Integer.rotateRight((int) FilterEngine.RGBA.get(src, i), 8);
+			FilterEngine.RGBA.set(dst, i, Integer.rotateLeft(operation.applyAsInt(argb), 8));
+		}
+	}
+
+	/**
+	 * A task which applies an operation to a range of rows. The range is split
+	 * until it contains at most {@link FilterEngine#THRESHOLD} pixels.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class RowTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient AbstractImage image;
+		private final transient AbstractImage result;
+		private final transient IntUnaryOperator operation;
+		private final int firstRow;
+		private final int lastRow;
+
+		private RowTask(AbstractImage image, AbstractImage result, IntUnaryOperator operation, int firstRow, int lastRow) {
+			this.image = image;
+			this.result = result;
+			this.operation = operation;
+			this.firstRow = firstRow;
+			this.lastRow = lastRow;
+		}
+
+		@Override
+		protected void compute() {
+			int rows = this.lastRow - this.firstRow;
+			if (rows <= 1 || (long) rows * this.image.width <= FilterEngine.THRESHOLD) {
+				int w = this.image.width;
+				if (this.result.isPacked()) {
+					FilterEngine.apply(this.result.argb, this.firstRow * w, this.lastRow * w, this.operation);
+				} else {
+					FilterEngine.apply(this.image.pixels, this.result.pixels, 4 * this.firstRow * w, 4 * this.lastRow * w, this.operation);
+				}
+				return;
+			}
+			int middle = this.firstRow + rows / 2;
+			ForkJoinTask.invokeAll( //
+					new RowTask(this.image, this.result, this.operation, this.firstRow, middle), //
+					new RowTask(this.image, this.result, this.operation, middle, this.lastRow));
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package rekit.logic.filters;
 
+import rekit.primitives.image.AbstractImage;
 import rekit.primitives.image.RGBAColor;
 import rekit.util.ReflectUtils.LoadMe;
 
@@ -12,11 +13,24 @@ import rekit.util.ReflectUtils.LoadMe;
 @LoadMe
 public class InvertedMode implements Filter {
 
+	@Override
+	public AbstractImage apply(AbstractImage image) {
+		return FilterEngine.apply(image, argb -> {
+			int alpha = argb >>> 24;
+			return (alpha == 255 ? 255 : 255 - alpha) << 24 | ~argb & 0xFFFFFF;
+		});
+	}
+
 	@Override
 	public RGBAColor apply(RGBAColor color) {
 		return new RGBAColor(255 - color.red, 255 - color.green, 255 - color.blue, color.alpha == 255 ? 255 : 255 - color.alpha);
 	}
 
+	@Override
+	public boolean supportsPacked() {
+		return true;
+	}
+
 	@Override
 	public boolean isApplyPixel() {
 		return true;
@@ -1,12 +1,14 @@
 package rekit.logic.filters;
 
-import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import rekit.config.GameConf;
+import rekit.core.GameTime;
 import rekit.primitives.image.RGBAColor;
 import rekit.util.ReflectUtils.LoadMe;
 import rekit.util.container.ROContainer;
-import rekit.util.ThreadUtils;
 
 /**
  * This filter realizes a filter which will map a color to a random color.
@@ -20,69 +22,59 @@ public final class RandomMode implements Filter {
 	 * The one and only instance of {@link RandomMode}.
 	 */
 	public static final ROContainer<RandomMode> INSTANCE = new ROContainer<>();
+	/**
+	 * The time between two resets of the mapping (in ms game time).
+	 */
+	private static final long RESET_INTERVAL = 10000;
 
 	/**
-	 * The mapping for all colors.
+	 * The current mapping for all colors.
 	 */
-	private Integer[] map = new Integer[256 << 16];
+	private volatile ColorTable table = new ColorTable();
+	/**
+	 * The game time of the next reset.
+	 */
+	private long nextReset = Long.MIN_VALUE;
 	/**
 	 * Indicates whether the internal state has been changed.
 	 */
-	private boolean changed = false;
+	private final AtomicBoolean changed = new AtomicBoolean(false);
 
 	/**
 	 * Create a new RandomMode filter.
 	 */
 	private RandomMode() {
-		ThreadUtils.runDaemon(RandomMode.class.getSimpleName(), this::periodicallyReset);
 		RandomMode.INSTANCE.set(this);
 	}
 
 	/**
 	 * Update random values periodically.
 	 */
-	private void periodicallyReset() {
-		while (true) {
-			if (!this.changed) {
-				Arrays.fill(this.map, null);
-				this.changed = true;
-			}
-			ThreadUtils.sleep(10000);
-
-		}
-	}
-
-	/**
-	 * Flyweight getter method for getting a random value between 1 and 255 for
-	 * every value between 0 and 255.
-	 *
-	 * @param color
-	 *            the extrinsic, original color
-	 * @return the intrinsic, random color
-	 */
-	private synchronized RGBAColor getMapping(RGBAColor color) {
-		Integer mapping = this.map[color.red + (color.green << 8) + (color.blue << 16)];
-		if (mapping == null) {
-			int red = GameConf.PRNG.nextInt(256);
-			int green = GameConf.PRNG.nextInt(256);
-			int blue = GameConf.PRNG.nextInt(256);
-			mapping = this.map[color.red + (color.green << 8) + (color.blue << 16)] = (red << 16) | (green << 8) | blue;
+	@Override
+	public void logicLoop() {
+		long now = GameTime.getTime();
+		if (now < this.nextReset) {
+			return;
 		}
-		return new RGBAColor(mapping | (color.alpha << 24));
+		this.nextReset = now + RandomMode.RESET_INTERVAL;
+		this.table = new ColorTable();
+		this.changed.set(true);
 	}
 
 	@Override
 	public boolean changed() {
-		if (this.changed) {
-			this.changed = false;
-			return true;
-		}
-		return false;
+		return this.changed.getAndSet(false);
 	}
 
 	@Override
 	public RGBAColor apply(RGBAColor color) {
-		return this.getMapping(color);
+		int mapping = this.table.get(color.red << 16 | color.green << 8 | color.blue);
+		return new RGBAColor(mapping | (color.alpha << 24));
+	}
+
+	@Override
+	public boolean supportsPacked() {
+		return true;
 	}
 
 	@Override
@@ -95,4 +87,105 @@ public final class RandomMode implements Filter {
 		return false;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * A lock-free open-addressed hash table which maps RGB colors to random
+	 * RGB colors. Key and value share one slot, so a mapping is published by
+	 * one CAS. If the table is full, further colors are mapped by a hash of
+	 * the color and the {@link #seed} of the table (so that a color keeps its
+	 * mapping until the next reset).
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class ColorTable {
+		/**
+		 * The amount of slots (2^15 slots of 8 byte = 256 KB).
+		 */
+		private static final int CAPACITY = 1 << 15;
+		/**
+		 * The max. amount of mappings (load factor 0.75).
+		 */
+		private static final int MAX_SIZE = ColorTable.CAPACITY / 4 * 3;
+		/**
+		 * Marks a used slot (so that black can be distinguished from an empty
+		 * slot).
+		 */
+		private static final long USED = 1L << 56;
+
+		/**
+		 * The slots: {@link #USED} | key &lt;&lt; 32 | value or {@code 0} if
+		 * empty.
+		 */
+		private final AtomicLongArray slots = new AtomicLongArray(ColorTable.CAPACITY);
+		/**
+		 * The amount of used slots.
+		 */
+		private final AtomicInteger size = new AtomicInteger();
+		/**
+		 * The random seed for the mapping of colors which do not fit into the
+		 * table.
+		 */
+		private final int seed = GameConf.PRNG.nextInt();
+
+		/**
+		 * Indicates whether the table cannot store more mappings.
+		 *
+		 * @return {@code true} if full, {@code false} otherwise
+		 */
+		boolean isFull() {
+			return this.size.get() >= ColorTable.MAX_SIZE;
+		}
+
+		/**
+		 * Get the mapping of a color. If none exists, a new random mapping
+		 * will be created (or, if the table is full, the mapping of the
+		 * overflow will be used).
+		 *
+		 * @param rgb
+		 *            the RGB color
+		 * @return the mapped RGB color
+		 */
+		int get(int rgb) {
+			int mask = ColorTable.CAPACITY - 1;
+			for (int i = ColorTable.hash(rgb) & mask, probes = 0; probes < ColorTable.CAPACITY; i = (i + 1) & mask, probes++) {
+				long slot = this.slots.get(i);
+				if (slot == 0) {
+					if (this.isFull()) {
+						return this.overflow(rgb);
+					}
+					int value = GameConf.PRNG.nextInt(1 << 24);
+					long entry = ColorTable.USED | (long) rgb << 32 | value;
+					if (this.slots.compareAndSet(i, 0, entry)) {
+						this.size.incrementAndGet();
+						return value;
+					}
+					slot = this.slots.get(i);
+				}
+				if ((int) (slot >>> 32 & 0xFFFFFF) == rgb) {
+					return (int) slot;
+				}
+			}
+			return this.overflow(rgb);
+		}
+
+		/**
+		 * Map a color which does not fit into the table.
+		 *
+		 * @param rgb
+		 *            the RGB color
+		 * @return the mapped RGB color
+		 */
+		private int overflow(int rgb) {
+			int h = (rgb ^ this.seed) * 0x85EBCA6B;
+			h ^= h >>> 13;
+			h *= 0xC2B2AE35;
+			return (h ^ h >>> 16) & 0xFFFFFF;
+		}
+
+		private static int hash(int rgb) {
+			int h = rgb * 0x9E3779B9;
+			return h ^ (h >>> 16);
+		}
+	}
+
+}
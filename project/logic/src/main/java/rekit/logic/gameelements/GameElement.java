@@ -93,7 +93,7 @@ public abstract class GameElement implements Collidable {
 	/**
 	 * Last time of invoking {@link #logicLoop()}.
 	 */
-	private long lastTime = GameTime.getTime();
+	private long lastTime = GameTime.getTickTime();
 
 	/**
 	 * Prototype constructor. Use the constructor <i>GameElement(Vec startPos,
@@ -142,7 +142,7 @@ public abstract class GameElement implements Collidable {
 	 */
 	public void logicLoop() {
 		// check if entity fell out of the world
-		this.deltaTime = GameTime.getTime() - this.lastTime;
+		this.deltaTime = GameTime.getTickTime() - this.lastTime;
 		this.lastTime += this.deltaTime;
 		this.checkForDelete();
 	}
@@ -420,7 +420,28 @@ public abstract class GameElement implements Collidable {
 	 * (Re-)Initialize the GameElement.
 	 */
 	public void init() {
-		this.lastTime = GameTime.getTime();
+		this.lastTime = GameTime.getTickTime();
+	}
+
+	/**
+	 * Indicates whether the scene may park this element while it is far ahead
+	 * of the camera (no logic and no collisions until the camera approaches).
+	 *
+	 * @return {@code true} if the element can be parked, {@code false} if it
+	 *         shall always be active
+	 * @see #parkedLoop()
+	 */
+	public boolean isParkable() {
+		return true;
+	}
+
+	/**
+	 * This method will be invoked instead of {@link #logicLoop()} while the
+	 * element is parked. The parked time will not be simulated after waking
+	 * up.
+	 */
+	public final void parkedLoop() {
+		this.lastTime = GameTime.getTickTime();
 	}
 
 	/**
@@ -14,9 +14,9 @@ import rekit.logic.gameelements.inanimate.InanimateBox;
 import rekit.logic.gameelements.type.Boss;
 import rekit.logic.gameelements.type.DynamicInanimate;
 import rekit.logic.gameelements.type.Group;
+import rekit.persistence.ModManager;
 import rekit.primitives.geometry.Vec;
 import rekit.util.ReflectUtils;
-import rekit.util.ThreadUtils;
 
 /**
  *
@@ -120,16 +120,10 @@ public final class GameElementFactory {
 	}
 
 	/**
-	 * Initialize GameElementFactory.
+	 * Initialize GameElementFactory (load all prototypes). This method blocks
+	 * until all prototypes are loaded; further invocations return immediately.
 	 */
 	public static synchronized void initialize() {
-		ThreadUtils.runDaemon("GameElementFactory", GameElementFactory::load);
-	}
-
-	/**
-	 * Load the factory.
-	 */
-	private static synchronized void load() {
 		if (GameElementFactory.loaded) {
 			return;
 		}
@@ -161,7 +155,7 @@ public final class GameElementFactory {
 	 */
 	@SuppressWarnings("unchecked")
 	private static void loadGroups() {
-		for (Class<?> group : ReflectUtils.getClassesAnnotated(GameConf.SEARCH_PATH, Group.class)) {
+		for (Class<?> group : ReflectUtils.getClassesAnnotated(GameConf.SEARCH_PATH, ModManager.SYSLOADER, Group.class)) {
 			try {
 				Group annotation = group.getAnnotation(Group.class);
 				String name = annotation.value().isEmpty() ? group.getSimpleName() : annotation.value();
@@ -104,10 +104,6 @@ public abstract class Entity extends GameElement {
 	 * the velocity.
 	 */
 	protected void innerLogicLoop() {
-		if (this.invincibility != null) {
-			this.invincibility.logicLoop();
-		}
-
 		// calculate new position
 		// s1 = s0 + v*t because physics, thats why!
 		this.setPos(this.getPos().add(this.getVel().scalar(this.deltaTime / 1000F)));
@@ -141,11 +141,15 @@ public final class Player extends StateEntity implements CameraTarget, Configura
 		this.scoreParticleSpawner = new TextParticleSpawner();
 	}
 
+	@Override
+	public boolean isParkable() {
+		return false;
+	}
+
 	@Override
 	public void internalRender(GameGrid f) {
 		if (this.renderTimer != null && !this.renderTimer.timeUp() && this.tmpRenderer != null) {
 			this.tmpRenderer.accept(f);
-			this.renderTimer.logicLoop();
 			return;
 		}
 
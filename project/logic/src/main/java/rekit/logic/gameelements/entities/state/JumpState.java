@@ -37,7 +37,6 @@ public class JumpState extends EntityState {
 
 	@Override
 	public void logicLoop() {
-		this.timer.logicLoop();
 		if (!this.timer.timeUp() && this.entity.getVel().y > Player.JUMP_BOOST) {
 			this.entity.setVel(new Vec(this.entity.getVel().x, Player.JUMP_BOOST));
 		} else if (this.timer.timeUp()) {
@@ -122,7 +122,7 @@ public final class EndTrigger extends InanimateTrigger implements Configurable {
 		/**
 		 * The last time of invoking {@link #logicLoop()}.
 		 */
-		private long lastTime = GameTime.getTime();
+		private long lastTime = GameTime.getTickTime();
 
 		/**
 		 * Create a portal-ring.
@@ -150,7 +150,7 @@ public final class EndTrigger extends InanimateTrigger implements Configurable {
 
 		@Override
 		public void logicLoop() {
-			long deltaTime = GameTime.getTime() - this.lastTime;
+			long deltaTime = GameTime.getTickTime() - this.lastTime;
 			this.lastTime += deltaTime;
 
 			this.x += deltaTime / 1000F;
@@ -75,6 +75,17 @@ public class Inanimate extends GameElement {
 		return 0;
 	}
 
+	/**
+	 * Indicates whether this inanimate is a static block (a tile) which never
+	 * moves and has no own logic. Tiles will be stored in a {@link TileMap}
+	 * instead of the scene.
+	 *
+	 * @return {@code true} if this inanimate is a tile, {@code false} otherwise
+	 */
+	public boolean isTile() {
+		return false;
+	}
+
 	@Override
 	public Inanimate create(Vec startPos, String... options) {
 		if (startPos.y + 1 >= GameConf.GRID_H) {
@@ -38,6 +38,11 @@ public class InanimateBox extends Inanimate {
 		f.drawRectangle(this.getPos(), this.getSize().scalar(0.5f), darkColor);
 	}
 
+	@Override
+	public boolean isTile() {
+		return true;
+	}
+
 	/**
 	 * Create a new InanimateBox.
 	 *
@@ -38,4 +38,13 @@ public class InanimateDoor extends InanimateBox {
 		}
 	}
 
+	/**
+	 * A door will be opened (moved) and destroyed by its
+	 * {@link rekit.logic.level.BossStructure}, so it is no tile.
+	 */
+	@Override
+	public boolean isTile() {
+		return false;
+	}
+
 }
@@ -204,9 +204,10 @@ public class InanimateFloor extends Inanimate {
 			f.drawRectangle(this.getPos().add(InanimateFloor.layerVecs[i]),
 					this.getSize().setY(1 / (float) InanimateFloor.LAYERS), InanimateFloor.layerCols[i]);
 		}
-		// Draw GrassStraws
-		for (GrassStraw straw : this.straws) {
-			straw.internalRender(f);
+		// Draw GrassStraws (as many as the quality allows)
+		int straws = Math.min(this.straws.length, GameConf.QUALITY.getStraws());
+		for (int i = 0; i < straws; i++) {
+			this.straws[i].internalRender(f);
 		}
 	}
 
@@ -234,6 +235,11 @@ public class InanimateFloor extends Inanimate {
 		super.reactToCollision(element, dir);
 	}
 
+	@Override
+	public boolean isTile() {
+		return true;
+	}
+
 	/**
 	 * Static create method that will be used by {@link Inanimate} for it in
 	 * order to decide between {@link InanimateFloor} and {@link InanimateBox}.
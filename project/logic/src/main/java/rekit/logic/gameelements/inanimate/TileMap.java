@@ -0,0 +1,243 @@
+package rekit.logic.gameelements.inanimate;
+
+import java.util.Arrays;
+
+import rekit.config.GameConf;
+import rekit.core.GameGrid;
+import rekit.core.Team;
+import rekit.logic.ILevelScene;
+import rekit.logic.gameelements.GameElement;
+import rekit.primitives.geometry.Vec;
+
+/**
+ * This class realizes a map of all static {@link Inanimate Inanimates} (tiles,
+ * see {@link Inanimate#isTile()}) of a level. The tiles are stored in a
+ * scrolling grid of columns (a ring of columns which will be reused as soon as
+ * the camera has passed them), so that they neither are elements of the scene
+ * nor take part in the pairwise collision check. Instead, collisions of an
+ * element with the tiles are checked by looking up the cells around the
+ * element (see {@link #checkCollisions(GameElement)}).<br>
+ * The map itself is an element of the scene, which renders all visible tiles at
+ * once.<br>
+ * The map shall only be modified by the logic thread.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class TileMap extends GameElement {
+	/**
+	 * The initial amount of columns (power of two).
+	 */
+	private static final int INITIAL_COLUMNS = 64;
+
+	/**
+	 * The columns.
+	 */
+	private volatile Columns columns = new Columns(TileMap.INITIAL_COLUMNS);
+	/**
+	 * The first column (absolute x) which is still in use; all columns before
+	 * can be reused.
+	 */
+	private int minX = Integer.MIN_VALUE + 1;
+
+	/**
+	 * Create a new map.
+	 *
+	 * @param scene
+	 *            the scene of the tiles
+	 */
+	public TileMap(ILevelScene scene) {
+		super(new Vec(), new Vec(), new Vec(), Team.INANIMATE);
+		this.setScene(scene);
+	}
+
+	/**
+	 * Put a tile to the map.
+	 *
+	 * @param tile
+	 *            the tile
+	 * @return {@code true} if put, {@code false} if the tile does not fit into
+	 *         a cell of the map
+	 */
+	public boolean put(Inanimate tile) {
+		Vec pos = tile.getPos();
+		int x = Math.round(pos.x);
+		int y = Math.round(pos.y);
+		if (pos.x != x || pos.y != y || tile.getSize().x != 1 || tile.getSize().y != 1) {
+			return false;
+		}
+		if (y < 0 || y >= GameConf.GRID_H || x < this.minX) {
+			return false;
+		}
+		Inanimate[] column = this.getColumn(x, true);
+		column[y] = tile;
+		tile.setScene(this.getScene());
+		return true;
+	}
+
+	/**
+	 * Get a column of the map.
+	 *
+	 * @param x
+	 *            the absolute x
+	 * @param create
+	 *            indicates whether a missing column shall be created
+	 * @return the column or {@code null} if none exists
+	 */
+	private Inanimate[] getColumn(int x, boolean create) {
+		Columns current = this.columns;
+		int slot = x & (current.x.length - 1);
+		if (current.x[slot] == x && x >= this.minX) {
+			return current.tiles[slot];
+		}
+		if (!create) {
+			return null;
+		}
+		if (current.x[slot] >= this.minX && current.tiles[slot] != null) {
+			// slot is still in use: double the amount of columns
+			this.columns = current.grow(this.minX);
+			return this.getColumn(x, true);
+		}
+		Inanimate[] column = new Inanimate[GameConf.GRID_H];
+		current.tiles[slot] = column;
+		current.x[slot] = x;
+		return column;
+	}
+
+	/**
+	 * Check collisions of an element with all tiles around it (in both
+	 * directions: element to tile and tile to element).
+	 *
+	 * @param element
+	 *            the element
+	 */
+	public void checkCollisions(GameElement element) {
+		Vec pos = element.getPos();
+		Vec size = element.getSize();
+		int x1 = (int) Math.floor(pos.x - size.x / 2);
+		int x2 = (int) Math.ceil(pos.x + size.x / 2);
+		int y1 = Math.max(0, (int) Math.floor(pos.y - size.y / 2));
+		int y2 = Math.min(GameConf.GRID_H - 1, (int) Math.ceil(pos.y + size.y / 2));
+		for (int x = x1; x <= x2; x++) {
+			Inanimate[] column = this.getColumn(x, false);
+			if (column == null) {
+				continue;
+			}
+			for (int y = y1; y <= y2; y++) {
+				Inanimate tile = column[y];
+				if (tile == null) {
+					continue;
+				}
+				tile.checkCollision(element);
+				element.checkCollision(tile);
+				if (tile.getDeleteMe()) {
+					column[y] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the amount of tiles in use.
+	 *
+	 * @return the amount of tiles
+	 */
+	public int getTileCount() {
+		Columns current = this.columns;
+		int count = 0;
+		for (int slot = 0; slot < current.x.length; slot++) {
+			if (current.x[slot] >= this.minX && current.tiles[slot] != null) {
+				for (Inanimate tile : current.tiles[slot]) {
+					count += tile == null ? 0 : 1;
+				}
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isParkable() {
+		return false;
+	}
+
+	@Override
+	public void logicLoop() {
+		// the map will never be deleted, but columns behind the camera will be
+		// reused (same condition as for elements)
+		if (!this.getScene().isOffsetWildCard()) {
+			int min = (int) Math.ceil(this.getScene().getCameraOffset() - GameConf.GRID_W - 1);
+			this.minX = Math.max(this.minX, min);
+		}
+	}
+
+	@Override
+	protected void internalRender(GameGrid f) {
+		Columns current = this.columns;
+		int from = (int) Math.floor(this.getScene().getCameraOffset()) - 1;
+		int to = from + GameConf.GRID_W + 2;
+		for (int x = from; x <= to; x++) {
+			int slot = x & (current.x.length - 1);
+			Inanimate[] column = current.tiles[slot];
+			if (current.x[slot] != x || column == null) {
+				continue;
+			}
+			for (Inanimate tile : column) {
+				if (tile != null && !tile.getDeleteMe()) {
+					tile.render(f);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The ring of columns. Column x is located at slot x &amp; (length - 1).
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class Columns {
+		/**
+		 * The absolute x of the column in each slot.
+		 */
+		private final int[] x;
+		/**
+		 * The tiles of the column in each slot (y-indexed).
+		 */
+		private final Inanimate[][] tiles;
+
+		private Columns(int length) {
+			this.x = new int[length];
+			this.tiles = new Inanimate[length][];
+			Arrays.fill(this.x, Integer.MIN_VALUE);
+		}
+
+		/**
+		 * Create a ring with (at least) twice the amount of slots which
+		 * contains all columns in use.
+		 *
+		 * @param minX
+		 *            the first column in use
+		 * @return the new ring
+		 */
+		private Columns grow(int minX) {
+			int length = this.x.length * 2;
+			while (true) {
+				Columns result = new Columns(length);
+				boolean fits = true;
+				for (int slot = 0; slot < this.x.length && fits; slot++) {
+					if (this.x[slot] < minX || this.tiles[slot] == null) {
+						continue;
+					}
+					int newSlot = this.x[slot] & (length - 1);
+					fits = result.tiles[newSlot] == null;
+					result.x[newSlot] = this.x[slot];
+					result.tiles[newSlot] = this.tiles[slot];
+				}
+				if (fits) {
+					return result;
+				}
+				length *= 2;
+			}
+		}
+	}
+}
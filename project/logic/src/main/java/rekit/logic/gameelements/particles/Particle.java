@@ -78,7 +78,7 @@ public class Particle extends GameElement {
 	/**
 	 * The last time of invoking {@link #logicLoop()}.
 	 */
-	private long lastTime = GameTime.getTime();
+	private long lastTime = GameTime.getTickTime();
 
 	/**
 	 * Create a particle.
@@ -143,11 +143,8 @@ public class Particle extends GameElement {
 
 	@Override
 	public void logicLoop() {
-		long deltaTime = GameTime.getTime() - this.lastTime;
+		long deltaTime = GameTime.getTickTime() - this.lastTime;
 		this.lastTime += deltaTime;
-		// tell timer passed time
-		this.timer.logicLoop();
-		// this.timer.removeTime(deltaTime);
 
 		// If time is up: kill yourself
 		if (this.timer.timeUp()) {
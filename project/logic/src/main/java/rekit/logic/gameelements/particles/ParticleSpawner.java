@@ -124,7 +124,8 @@ public class ParticleSpawner implements Configurable {
 	}
 
 	/**
-	 * Spawn particles in a {@link IScene} at a position.
+	 * Spawn particles in a {@link IScene} at a position. The amount will be
+	 * scaled by the current {@link GameConf#QUALITY}.
 	 *
 	 * @param scene
 	 *            the scene
@@ -132,7 +133,7 @@ public class ParticleSpawner implements Configurable {
 	 *            the position
 	 */
 	public void spawn(IScene scene, Vec pos) {
-		int randomAmount = (int) (this.amountMin + GameConf.PRNG.nextDouble() * (this.amountMax - this.amountMin));
+		int randomAmount = GameConf.QUALITY.scaleParticles((int) (this.amountMin + GameConf.PRNG.nextDouble() * (this.amountMax - this.amountMin)));
 
 		for (int i = 0; i < randomAmount; i++) {
 			long randomTime = (long) (1000 * (this.timeMin + GameConf.PRNG.nextDouble() * (this.timeMax - this.timeMin)));
@@ -64,6 +64,11 @@ public abstract class Boss extends Entity {
 		super(startPos, vel, size, Team.ENEMY);
 	}
 
+	@Override
+	public boolean isParkable() {
+		return false;
+	}
+
 	@Override
 	protected void innerLogicLoop() {
 		// if no invincibility or invincibility time is up
@@ -81,7 +81,10 @@ public abstract class Coin extends Pickup {
 	@Override
 	public void internalRender(GameGrid f) {
 
-		for (float x = -0.020f; x <= 0.020f; x += 0.005f) {
+		// spread the circles (as many as the quality allows) over [-0.02, 0.02]
+		int circles = GameConf.QUALITY.getCoinCircles();
+		for (int i = 0; i < circles; i++) {
+			float x = circles == 1 ? 0 : -0.020f + 0.040f * i / (circles - 1);
 			f.drawCircle(this.getPos().addX(x), this.getSize(), this.getColor());
 		}
 		if (this.sin < 0) {
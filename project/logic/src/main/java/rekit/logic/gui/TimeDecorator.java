@@ -7,7 +7,9 @@ import rekit.primitives.time.Timer;
 /**
  *
  * This class can decorate all {@link GuiElement GuiElements} so that they will
- * be deleted after a specific time.
+ * be deleted after a specific time. The deletion will be executed by the
+ * {@link IScene#getScheduler() scheduler} of the scene, so the timer will not
+ * be polled.
  *
  */
 public final class TimeDecorator extends GuiElement {
@@ -15,14 +17,6 @@ public final class TimeDecorator extends GuiElement {
 	 * The decorated GuiElement.
 	 */
 	private GuiElement element;
-	/**
-	 * The timer.
-	 */
-	private Timer timer;
-	/*
-	 * The last time of invoking {@link #logicLoop()}.
-	 */
-	// private long lastTime = GameTime.getTime();
 
 	/**
 	 * Create a TimeDecorator.
@@ -32,25 +26,19 @@ public final class TimeDecorator extends GuiElement {
 	 * @param element
 	 *            the decorated element
 	 * @param timer
-	 *            the timer
+	 *            the timer (the element will be deleted when the time is up)
 	 */
 	public TimeDecorator(IScene scene, GuiElement element, Timer timer) {
 		super(scene);
 		this.element = element;
-		this.timer = timer;
+		scene.getScheduler().schedule(timer.getTimeLeft(), () -> {
+			this.visible = false;
+			this.getScene().removeGuiElement(this);
+		});
 	}
 
 	@Override
 	public void logicLoop() {
-		// long deltaTime = GameTime.getTime() - this.lastTime;
-		// this.lastTime += deltaTime;
-		this.timer.logicLoop();
-		// this.timer.removeTime(deltaTime);
-		if (this.timer.timeUp()) {
-			this.visible = false;
-			this.getScene().removeGuiElement(this);
-		}
-
 		this.element.logicLoop();
 	}
 
@@ -41,7 +41,6 @@ public class MainMenuGrid extends MenuGrid {
 	@Override
 	public void logicLoop() {
 		super.logicLoop();
-		this.frameTimer.logicLoop();
 		if (this.frameTimer.timeUp()) {
 			this.frameTimer.reset();
 			this.currentFrame = (this.currentFrame + 1) % 3;
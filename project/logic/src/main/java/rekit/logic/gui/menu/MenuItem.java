@@ -151,7 +151,18 @@ public abstract class MenuItem extends GuiElement {
 	 *            the field
 	 */
 	protected void renderItem(GameGrid f) {
-		RGBAColor col = this.hover ? GameConf.MENU_BOX_SELECT_COLOR : GameConf.MENU_BOX_COLOR;
+		this.renderBox(f, this.hover ? GameConf.MENU_BOX_SELECT_COLOR : GameConf.MENU_BOX_COLOR);
+	}
+
+	/**
+	 * Render the box of the Item (with a darker border) and its text.
+	 *
+	 * @param f
+	 *            the field
+	 * @param col
+	 *            the color of the box
+	 */
+	protected final void renderBox(GameGrid f, RGBAColor col) {
 		RGBAColor darkCol = col.darken(0.8f);
 
 		float borderWidth = 10;
@@ -0,0 +1,77 @@
+package rekit.logic.gui.menu;
+
+import rekit.config.GameConf;
+import rekit.config.Quality;
+import rekit.core.GameGrid;
+import rekit.logic.IScene;
+
+/**
+ *
+ * This class defines a menu to select the {@link GameConf#QUALITY}: either
+ * adaptive ({@link GameConf#AUTO_QUALITY}) or one fixed {@link Quality}.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public final class QualitySetting extends MenuItem {
+
+	/**
+	 * Create entry.
+	 *
+	 * @param scene
+	 *            the scene (menu)
+	 * @param text
+	 *            the text
+	 */
+	public QualitySetting(IScene scene, String text) {
+		super(scene, text);
+	}
+
+	@Override
+	public void right() {
+		this.select(1);
+	}
+
+	@Override
+	public void left() {
+		this.select(-1);
+	}
+
+	/**
+	 * Select the next option (auto, then all tiers from low to high).
+	 *
+	 * @param direction
+	 *            the direction (1 or -1)
+	 */
+	private void select(int direction) {
+		Quality[] tiers = Quality.values();
+		int options = tiers.length + 1;
+		// option 0 is auto
+		int current = GameConf.AUTO_QUALITY ? 0 : GameConf.QUALITY.ordinal() + 1;
+		int next = (current + direction + options) % options;
+		GameConf.AUTO_QUALITY = next == 0;
+		if (next != 0) {
+			GameConf.QUALITY = tiers[next - 1];
+		}
+	}
+
+	@Override
+	protected String getText() {
+		String quality = GameConf.QUALITY.name().toLowerCase();
+		return super.getText() + " : " + (GameConf.AUTO_QUALITY ? "auto (" + quality + ")" : quality);
+	}
+
+	@Override
+	protected void renderItem(GameGrid f) {
+		if (!this.selected) {
+			super.renderItem(f);
+		} else {
+			this.renderBox(f, GameConf.MENU_BOX_OPTION_COLOR);
+		}
+	}
+
+	@Override
+	public boolean hasChildren() {
+		return false;
+	}
+}
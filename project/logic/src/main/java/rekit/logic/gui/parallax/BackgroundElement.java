@@ -35,6 +35,11 @@ public abstract class BackgroundElement extends GameElement {
 		this.backgroundZ = Team.BACKGROUND.zRange.min;
 	}
 
+	@Override
+	public boolean isParkable() {
+		return false;
+	}
+
 	@Override
 	public final Integer getZHint() {
 		return (int) (this.backgroundZ - this.parent.fieldXtoLayerX(100));
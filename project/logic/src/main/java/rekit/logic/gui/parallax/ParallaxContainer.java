@@ -3,6 +3,7 @@ package rekit.logic.gui.parallax;
 import java.util.LinkedList;
 import java.util.List;
 
+import rekit.config.GameConf;
 import rekit.logic.IScene;
 
 public class ParallaxContainer {
@@ -21,8 +22,14 @@ public class ParallaxContainer {
 	}
 
 	public void logicLoop(float currentOffset) {
+		// only the first layers generate new elements (see Quality)
+		int active = GameConf.QUALITY.getParallaxLayers();
 		for (ParallaxLayer layer : this.layers) {
-			layer.logicLoop(currentOffset);
+			if (active-- > 0) {
+				layer.logicLoop(currentOffset);
+			} else {
+				layer.skip(currentOffset);
+			}
 		}
 	}
 }
@@ -27,6 +27,20 @@ public abstract class ParallaxLayer {
 		this.generateUntil = this.x + GameConf.GRID_W;
 	}
 
+	/**
+	 * Move along with the camera without generating anything (e.g. if the
+	 * quality does not allow this layer). If the layer will be used again, it
+	 * continues at the current position instead of filling the gap.
+	 *
+	 * @param currentOffset
+	 *            the current camera offset
+	 */
+	public void skip(float currentOffset) {
+		this.x = currentOffset;
+		this.generateUntil = this.x + GameConf.GRID_W;
+		this.currentlyGeneratedUntil = Math.max(this.currentlyGeneratedUntil, this.generateUntil - this.fieldXtoLayerX(this.x));
+	}
+
 	public void render(GameGrid f) {
 
 	}
@@ -22,7 +22,6 @@ import rekit.primitives.geometry.Vec;
 import rekit.primitives.time.Progress;
 import rekit.primitives.time.Timer;
 import rekit.util.CalcUtil;
-import rekit.util.ThreadUtils;
 
 /**
  *
@@ -125,9 +124,16 @@ public final class BossStructure extends Structure implements Configurable {
 		this.boss.setBossStructure(this);
 		this.boss.setTarget(scene.getPlayer());
 
-		// Create thread for asynchronous stuff
-		ThreadUtils.runDaemon("BossRoom-Start", () -> this.startIntern(scene));
-
+		// keep walking right to the right camera position, then start
+		scene.getScheduler().run(() -> {
+			Player player = scene.getPlayer();
+			if (player.getPos().x < this.cameraTarget) {
+				player.setVel(player.getVel().setX(1.8f));
+				return false;
+			}
+			this.startIntern(scene);
+			return true;
+		});
 	}
 
 	/**
@@ -142,11 +148,6 @@ public final class BossStructure extends Structure implements Configurable {
 		}
 
 		Player player = scene.getPlayer();
-		// keep walking right to the right camera position
-		while (player.getPos().x < this.cameraTarget) {
-			player.setVel(player.getVel().setX(1.8f));
-			Timer.sleep(GameConf.LOGIC_DELTA);
-		}
 
 		RangeCameraTarget tgt = new RangeCameraTarget(//
 				this.cameraTarget - Player.CAMERA_OFFSET, //
@@ -183,13 +184,12 @@ public final class BossStructure extends Structure implements Configurable {
 			return;
 		}
 		this.ended = true;
-		// Create thread for asynchronous stuff
-		ThreadUtils.runDaemon("BossRoom-End", () -> this.endAnimation(scene));
+		this.endAnimation(scene);
 	}
 
 	/**
-	 * This method will invoked in a separate thread to perform the end
-	 * animation of the Boss.
+	 * Schedule the end animation of the Boss. The animation will be performed
+	 * by the {@link IScene#getScheduler() scheduler} of the scene.
 	 *
 	 * @param scene
 	 *            the scene
@@ -214,29 +214,30 @@ public final class BossStructure extends Structure implements Configurable {
 		);
 		// save Players current velocity
 		Vec[] save = { player.getVel(), player.getPos(), this.boss.getPos() };
-		// while timer has time left...
-		while (!timer.timeUp()) {
-			// freeze player and pos
-			player.setVel(new Vec());
-			player.setPos(save[1]);
-			this.boss.setVel(new Vec());
-			this.boss.setPos(save[2]);
-			// wait for time to be up
-			Timer.sleep(GameConf.LOGIC_DELTA);
-			this.phase(scene, timer, doorMover, cameraMover);
-			timer.logicLoop();
-		}
-
-		// re-apply velocity to Player
-		player.setVel(save[0]);
-		// give player full health
-		if (player.getLives() < Player.LIVES) {
-			player.setLives(Player.LIVES);
-		}
-		// set camera back to player
-		player.resetCameraOffset();
-		scene.setCameraTarget(player);
-		scene.setOffsetWildCard(false);
+		scene.getScheduler().run(() -> {
+			// while timer has time left...
+			if (!timer.timeUp()) {
+				// freeze player and pos
+				player.setVel(new Vec());
+				player.setPos(save[1]);
+				this.boss.setVel(new Vec());
+				this.boss.setPos(save[2]);
+				this.phase(scene, timer, doorMover, cameraMover);
+				return false;
+			}
+
+			// re-apply velocity to Player
+			player.setVel(save[0]);
+			// give player full health
+			if (player.getLives() < Player.LIVES) {
+				player.setLives(Player.LIVES);
+			}
+			// set camera back to player
+			player.resetCameraOffset();
+			scene.setCameraTarget(player);
+			scene.setOffsetWildCard(false);
+			return true;
+		});
 	}
 
 	/**
@@ -45,7 +45,7 @@ public final class LevelFactory {
 	 */
 	public static synchronized Level getBossRushLevel() {
 
-		LevelDefinition brLevel = LevelManager.getLevelById(LevelFactory.getBossRushLevelDefinition().getRawData());
+		LevelDefinition brLevel = LevelManager.getLevelById(LevelFactory.getBossRushLevelDefinition().getID());
 		if (brLevel == null) {
 			brLevel = LevelFactory.getBossRushLevelDefinition();
 			LevelManager.addLevel(brLevel, true);
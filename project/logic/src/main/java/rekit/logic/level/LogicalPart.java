@@ -51,7 +51,7 @@ public final class LogicalPart {
 
 		String group = this.definition.getSetting(SettingKey.GROUP);
 		List<String> levels = LevelManager.getArcadeLevelGroups().get(group);
-		int thatIdx = levels.indexOf(this.definition.getRawData());
+		int thatIdx = levels.indexOf(this.definition.getID());
 		if (thatIdx + 1 >= levels.size()) {
 			return null;
 		}
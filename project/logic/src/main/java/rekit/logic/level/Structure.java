@@ -6,6 +6,7 @@ import rekit.config.GameConf;
 import rekit.logic.gameelements.GameElementFactory;
 import rekit.persistence.level.LevelDefinition;
 import rekit.persistence.level.SettingKey;
+import rekit.util.profiling.events.StructureBuildEvent;
 
 /**
  * <p>
@@ -102,6 +103,8 @@ public class Structure {
 	 * @return the width of the build structure plus the gapWidth.
 	 */
 	public int build(int levelX) {
+		StructureBuildEvent event = new StructureBuildEvent();
+		event.begin();
 		// iterate template structureArray
 		for (int y = 0; y < this.getHeight(); y++) {
 			for (int x = 0; x < this.getWidth(); x++) {
@@ -132,6 +135,12 @@ public class Structure {
 			GameElementFactory.generateInanimate(levelX + this.structure[0].length + x, GameConf.GRID_H - 1);
 		}
 
+		if (event.shouldCommit()) {
+			event.levelX = levelX;
+			event.width = this.getWidth() + this.gapWidth;
+			event.height = this.getHeight();
+			event.commit();
+		}
 		// return structure width plus gapWidth
 		return this.getWidth() + this.gapWidth;
 	}
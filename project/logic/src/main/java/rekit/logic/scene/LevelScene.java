@@ -17,6 +17,8 @@ import rekit.logic.filters.GrayScaleMode;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gameelements.GameElementFactory;
 import rekit.logic.gameelements.entities.Player;
+import rekit.logic.gameelements.inanimate.Inanimate;
+import rekit.logic.gameelements.inanimate.TileMap;
 import rekit.logic.gui.LifeGui;
 import rekit.logic.gui.ScoreGui;
 import rekit.logic.gui.Text;
@@ -36,6 +38,7 @@ import rekit.primitives.TextOptions;
 import rekit.primitives.geometry.Vec;
 import rekit.primitives.time.Timer;
 import rekit.util.CalcUtil;
+import rekit.util.profiling.events.CollisionEvent;
 
 /**
  * Scene that holds a playable Level created by a LevelCreator. Different Levels
@@ -82,6 +85,10 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	 * The ParallaxContainer for the background.
 	 */
 	protected ParallaxContainer parallax;
+	/**
+	 * The static inanimates (tiles) of the level.
+	 */
+	private TileMap tiles;
 	/**
 	 * Indicates whether the level has ended.
 	 */
@@ -115,6 +122,8 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	@Override
 	public void init() {
 		super.init();
+		this.tiles = new TileMap(this);
+		super.addGameElement(this.tiles);
 		this.level.reset();
 		this.offsetWildCard = false;
 		// Create Player and add him to game
@@ -194,7 +203,7 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 
 		// show end menu after the specified time
 		if (delay >= 0) {
-			Timer.execute(delay, () -> this.showEndMenu(won));
+			this.getScheduler().schedule(delay, () -> this.showEndMenu(won));
 		}
 	}
 
@@ -311,14 +320,46 @@ public abstract class LevelScene extends Scene implements ILevelScene {
 	 * Check and Threat collisions.
 	 */
 	private void checkCollisions() {
+		CollisionEvent event = new CollisionEvent();
+		event.begin();
 		Set<GameElement> elements = new HashSet<>();
-		this.applyToNonNeutralGameElements(elements::add);
+		this.applyToNonNeutralGameElements(e -> {
+			if (this.isActive(e)) {
+				elements.add(e);
+			}
+		});
+		elements.remove(this.tiles);
 		for (GameElement e1 : elements) {
 			for (GameElement e2 : elements) {
 				e1.checkCollision(e2);
 
 			}
 		}
+		// collisions with tiles by lookup
+		for (GameElement e : elements) {
+			this.tiles.checkCollisions(e);
+		}
+		if (event.shouldCommit()) {
+			event.elements = elements.size();
+			event.pairs = (long) elements.size() * elements.size();
+			event.tileLookups = elements.size();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Adds a GameElement to the Model. Tiles (see {@link Inanimate#isTile()})
+	 * will be put to the {@link TileMap} of the scene instead.
+	 *
+	 * @param element
+	 *            the GameElement to add
+	 */
+	@Override
+	public void addGameElement(GameElement element) {
+		if (element instanceof Inanimate && ((Inanimate) element).isTile() && this.tiles.put((Inanimate) element)) {
+			return;
+		}
+		super.addGameElement(element);
 	}
 
 	@Override
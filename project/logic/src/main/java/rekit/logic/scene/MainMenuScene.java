@@ -20,6 +20,7 @@ import rekit.logic.gui.menu.MenuActionItem;
 import rekit.logic.gui.menu.MenuGrid;
 import rekit.logic.gui.menu.MenuItem;
 import rekit.logic.gui.menu.MenuList;
+import rekit.logic.gui.menu.QualitySetting;
 import rekit.logic.gui.menu.SubMenu;
 import rekit.logic.gui.menu.TextItem;
 import rekit.persistence.DirFileDefinitions;
@@ -97,6 +98,8 @@ final class MainMenuScene extends Scene {
 		MenuList settings = new MenuList(this, "Settings");
 		settings.addItem(//
 				new BoolSetting(this, "Debug Mode", "DEBUG"), //
+				new BoolSetting(this, "VSync", "VSYNC"), //
+				new QualitySetting(this, "Quality"), //
 				new MenuActionItem(this, "Open Config",
 						LambdaConvert.wrap(() -> Desktop.getDesktop().open(DirFileDefinitions.BASE), e -> GameConf.GAME_LOGGER.fatal(e.getMessage()))) //
 		);
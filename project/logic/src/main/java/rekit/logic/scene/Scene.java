@@ -2,6 +2,7 @@ package rekit.logic.scene;
 
 import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Queue;
@@ -17,10 +18,13 @@ import rekit.core.GameTime;
 import rekit.logic.GameModel;
 import rekit.logic.ILevelScene;
 import rekit.logic.IScene;
+import rekit.logic.Scheduler;
 import rekit.logic.gameelements.GameElement;
 import rekit.logic.gui.GuiElement;
 import rekit.util.LambdaUtil;
 import rekit.util.Once;
+import rekit.util.profiling.Profiler;
+import rekit.util.profiling.Profiler.Phase;
 
 /**
  * Based on the concept of scenes in Unity. <br>
@@ -43,11 +47,22 @@ abstract class Scene implements CameraTarget, IScene {
 	/**
 	 * All gui elements.
 	 */
-	private ConcurrentLinkedDeque<GuiElement> guiElements;
+	private final ConcurrentLinkedDeque<GuiElement> guiElements = new ConcurrentLinkedDeque<>();
 	/**
-	 * All game elements.
+	 * All game elements (only accessed by the logic thread).
 	 */
 	private Queue<GameElement>[] gameElements;
+	/**
+	 * The snapshot of all game elements for all other threads. The snapshot
+	 * will never be modified; the logic thread publishes a new one (a new
+	 * epoch) whenever game elements have been added or removed.
+	 */
+	private volatile Snapshot snapshot = new Snapshot(0, new GameElement[0], Collections.emptyMap());
+	/**
+	 * The amount of game elements by simple class name (only accessed by the
+	 * logic thread; maintained on add and remove).
+	 */
+	private final Map<String, Integer> classCounts = new TreeMap<>();
 	/**
 	 * GameElements which shall be added.
 	 */
@@ -56,9 +71,13 @@ abstract class Scene implements CameraTarget, IScene {
 	 * GameElements which shall be removed.
 	 */
 	private Queue<GameElement> gameElementRemoveQueue;
+	/**
+	 * The scheduler of delayed actions and sequences.
+	 */
+	private final Scheduler scheduler = new Scheduler();
 
 	/**
-	 * Stats of the gameElements for debugging.
+	 * Stats of the gameElements for debugging (nanos by class).
 	 */
 	private Map<String, Long> gameElementDurations = new TreeMap<>();
 	/**
@@ -76,7 +95,7 @@ abstract class Scene implements CameraTarget, IScene {
 	/**
 	 * Last time of invoking {@link #logicLoop()}.
 	 */
-	private long lastTime = GameTime.getTime();
+	private long lastTime = GameTime.getTickTime();
 	/**
 	 * The latest deltaTime in {@link #logicLoop()}.
 	 */
@@ -103,10 +122,10 @@ abstract class Scene implements CameraTarget, IScene {
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized void init() {
+	public void init() {
 		// Byte: [-128, 127]
 		final int length = 256;
-		this.guiElements = new ConcurrentLinkedDeque<>();
+		this.guiElements.clear();
 
 		this.gameElements = (Queue<GameElement>[]) new Queue<?>[length];
 		for (int i = 0; i < this.gameElements.length; i++) {
@@ -115,11 +134,19 @@ abstract class Scene implements CameraTarget, IScene {
 
 		this.gameElementAddQueue = new ArrayDeque<>();
 		this.gameElementRemoveQueue = new ArrayDeque<>();
+		this.classCounts.clear();
+		this.scheduler.clear();
+		this.publish();
 
 		// never start the game in paused state
 		this.setPause(false);
 	}
 
+	@Override
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
 	@Override
 	public boolean togglePause() {
 		if (!this.canPause) {
@@ -151,7 +178,7 @@ abstract class Scene implements CameraTarget, IScene {
 
 	@Override
 	public final void logicLoop() {
-		this.deltaTime = GameTime.getTime() - this.lastTime;
+		this.deltaTime = GameTime.getTickTime() - this.lastTime;
 		this.lastTime += this.deltaTime;
 		this.innerLogicLoop();
 	}
@@ -159,19 +186,28 @@ abstract class Scene implements CameraTarget, IScene {
 	/**
 	 * This method will be invoked in {@link #logicLoop()}.
 	 */
-	protected synchronized void innerLogicLoop() {
+	protected void innerLogicLoop() {
+		long time = Profiler.start();
 		this.logicLoopPre();
+		time = Profiler.lap(Phase.LOGIC_PRE, time);
 		// add GameElements that have been added
 		this.addGameElements();
+		time = Profiler.lap(Phase.LOGIC_ADD, time);
 		if (!this.paused) {
 			// iterate all GameElements to invoke logicLoop
 			Arrays.stream(this.gameElements).forEach(list -> list.forEach(this::logicLoopGameElement));
+			// advance delayed actions and sequences
+			this.scheduler.logicLoop();
 		}
+		time = Profiler.lap(Phase.LOGIC_ELEMENTS, time);
 		// remove GameElements that must be removed
 		this.removeGameElements();
+		time = Profiler.lap(Phase.LOGIC_REMOVE, time);
 		this.logicLoopAfter();
+		time = Profiler.lap(Phase.LOGIC_COLLISIONS, time);
 		// after all game related logic update GuiElements
 		this.guiElements.forEach(e -> e.logicLoop());
+		Profiler.lap(Phase.LOGIC_GUI, time);
 
 	}
 
@@ -200,23 +236,45 @@ abstract class Scene implements CameraTarget, IScene {
 			this.markForRemove(e);
 			return;
 		}
+		// if this GameElement is too far ahead of the camera
+		if (!this.isActive(e)) {
+			e.parkedLoop();
+			return;
+		}
 
 		// Debug: Save time before logicLoop
 		long timeBefore = 0;
 		if (GameConf.DEBUG) {
-			timeBefore = GameTime.getTime();
+			timeBefore = System.nanoTime();
 		}
 
 		e.logicLoop();
 		this.debug(e, timeBefore);
 	}
 
+	/**
+	 * Indicates whether a game element is active or parked because it is more
+	 * than {@link GameConf#ACTIVATION_DISTANCE} units right of the screen (see
+	 * {@link GameElement#isParkable()}). Parked elements take part neither in
+	 * logic nor in collisions.
+	 *
+	 * @param e
+	 *            the element
+	 * @return {@code true} if active, {@code false} if parked
+	 */
+	protected final boolean isActive(GameElement e) {
+		if (!e.isParkable() || e.getSize() == null) {
+			return true;
+		}
+		return e.getPos().x - e.getSize().x / 2 <= this.getCameraOffset() + GameConf.GRID_W + GameConf.ACTIVATION_DISTANCE;
+	}
+
 	// Debug: Compare and save logicLoop Duration
 	private void debug(GameElement e, long timeBefore) {
 		if (GameConf.DEBUG) {
 			try {
 				this.gameElementDurationsLock.lock();
-				long timeAfter = GameTime.getTime();
+				long timeAfter = System.nanoTime();
 				String clazz = e.getClass().getSimpleName();
 				long dur = (timeAfter - timeBefore);
 				if (this.gameElementDurations.containsKey(clazz)) {
@@ -259,15 +317,19 @@ abstract class Scene implements CameraTarget, IScene {
 			return;
 		}
 		synchronized (this.gameElementAddQueue) {
+			if (this.gameElementAddQueue.isEmpty()) {
+				return;
+			}
 			Iterator<GameElement> it = this.gameElementAddQueue.iterator();
 			while (it.hasNext()) {
 				GameElement element = it.next();
 				this.gameElements[Scene.zToIndex(element.getZ())].add(element);
+				this.classCounts.merge(element.getClass().getSimpleName(), 1, Integer::sum);
 				element.setScene((ILevelScene) this);
 			}
 			this.gameElementAddQueue.clear();
 		}
-
+		this.publish();
 	}
 
 	/**
@@ -292,9 +354,36 @@ abstract class Scene implements CameraTarget, IScene {
 	 */
 	private void removeGameElements() {
 		synchronized (this.gameElementRemoveQueue) {
-			this.gameElementRemoveQueue.forEach(e -> this.gameElements[Scene.zToIndex(e.getZ())].remove(e));
+			if (this.gameElementRemoveQueue.isEmpty()) {
+				return;
+			}
+			for (GameElement element : this.gameElementRemoveQueue) {
+				if (this.gameElements[Scene.zToIndex(element.getZ())].remove(element)) {
+					this.classCounts.computeIfPresent(element.getClass().getSimpleName(), (clazz, count) -> count == 1 ? null : count - 1);
+				}
+			}
 			this.gameElementRemoveQueue.clear();
 		}
+		this.publish();
+	}
+
+	/**
+	 * Publish a new snapshot of all game elements (ordered by z) and their
+	 * amount by class.
+	 */
+	private void publish() {
+		int size = 0;
+		for (Queue<GameElement> level : this.gameElements) {
+			size += level.size();
+		}
+		GameElement[] elements = new GameElement[size];
+		int i = 0;
+		for (Queue<GameElement> level : this.gameElements) {
+			for (GameElement element : level) {
+				elements[i++] = element;
+			}
+		}
+		this.snapshot = new Snapshot(this.snapshot.epoch + 1, elements, Collections.unmodifiableMap(new TreeMap<>(this.classCounts)));
 	}
 
 	/**
@@ -304,43 +393,77 @@ abstract class Scene implements CameraTarget, IScene {
 	 *            the GuiElement to add
 	 */
 	@Override
-	public synchronized void addGuiElement(GuiElement e) {
+	public void addGuiElement(GuiElement e) {
 		this.guiElements.add(e);
 	}
 
 	@Override
-	public synchronized void removeGuiElement(GuiElement e) {
+	public void removeGuiElement(GuiElement e) {
 		this.guiElements.remove(e);
 	}
 
 	@Override
-	public synchronized void applyToGameElements(Consumer<GameElement> function) {
-		for (Queue<GameElement> level : this.gameElements) {
-			level.forEach(function::accept);
+	public void applyToGameElements(Consumer<GameElement> function) {
+		for (GameElement element : this.snapshot.elements) {
+			function.accept(element);
 		}
 	}
 
 	@Override
-	public synchronized void applyToNonNeutralGameElements(Consumer<GameElement> function) {
-		for (Queue<GameElement> level : this.gameElements) {
-			level.stream().filter(e -> !e.getTeam().isNeutral()).forEach(function::accept);
+	public void applyToNonNeutralGameElements(Consumer<GameElement> function) {
+		for (GameElement element : this.snapshot.elements) {
+			if (!element.getTeam().isNeutral()) {
+				function.accept(element);
+			}
 		}
 	}
 
 	@Override
-	public synchronized void applyToGuiElements(Consumer<GuiElement> function) {
+	public void applyToGuiElements(Consumer<GuiElement> function) {
 		for (GuiElement level : this.guiElements) {
 			function.accept(level);
 		}
 	}
 
 	@Override
-	public synchronized int getGameElementCount() {
-		int size = 0;
-		for (Queue<GameElement> queue : this.gameElements) {
-			size += queue.size();
+	public int getGameElementCount() {
+		return this.snapshot.elements.length;
+	}
+
+	@Override
+	public long getEpoch() {
+		return this.snapshot.epoch;
+	}
+
+	@Override
+	public Map<String, Integer> getGameElementCountByClass() {
+		return this.snapshot.classCounts;
+	}
+
+	@Override
+	public int getPendingAdditions() {
+		return Scene.sizeOf(this.gameElementAddQueue);
+	}
+
+	@Override
+	public int getPendingRemovals() {
+		return Scene.sizeOf(this.gameElementRemoveQueue);
+	}
+
+	/**
+	 * Get the size of a queue which is synchronized on itself.
+	 *
+	 * @param queue
+	 *            the queue or {@code null} if not initialized
+	 * @return the size
+	 */
+	private static int sizeOf(Queue<GameElement> queue) {
+		if (queue == null) {
+			return 0;
+		}
+		synchronized (queue) {
+			return queue.size();
 		}
-		return size;
 	}
 
 	@Override
@@ -377,4 +500,31 @@ abstract class Scene implements CameraTarget, IScene {
 		return zvalue + 128;
 	}
 
+	/**
+	 * An immutable snapshot of all game elements.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class Snapshot {
+		/**
+		 * The epoch of the snapshot.
+		 */
+		private final long epoch;
+		/**
+		 * All game elements (ordered by z).
+		 */
+		private final GameElement[] elements;
+		/**
+		 * The amount of game elements by simple class name.
+		 */
+		private final Map<String, Integer> classCounts;
+
+		private Snapshot(long epoch, GameElement[] elements, Map<String, Integer> classCounts) {
+			this.epoch = epoch;
+			this.elements = elements;
+			this.classCounts = classCounts;
+		}
+	}
+
 }
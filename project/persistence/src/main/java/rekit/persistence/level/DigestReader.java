@@ -0,0 +1,114 @@
+package rekit.persistence.level;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * This reader calculates a hash of all chars read through it. This is used to
+ * identify a level without keeping its raw data.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+final class DigestReader extends FilterReader {
+	/**
+	 * The hash algorithm (has to be supported by every JVM).
+	 */
+	private static final String ALGORITHM = "SHA-256";
+
+	private final MessageDigest digest;
+	private byte[] bytes = new byte[0];
+
+	/**
+	 * Create a DigestReader.
+	 *
+	 * @param in
+	 *            the underlying reader
+	 */
+	DigestReader(Reader in) {
+		super(in);
+		this.digest = DigestReader.createDigest();
+	}
+
+	@Override
+	public int read() throws IOException {
+		int c = super.read();
+		if (c >= 0) {
+			this.digest.update((byte) (c >> 8));
+			this.digest.update((byte) c);
+		}
+		return c;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		int read = super.read(cbuf, off, len);
+		if (read > 0) {
+			this.update(cbuf, off, read);
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		throw new IOException("skip not supported");
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private void update(char[] cbuf, int off, int len) {
+		if (this.bytes.length < 2 * len) {
+			this.bytes = new byte[2 * len];
+		}
+		for (int i = 0; i < len; i++) {
+			char c = cbuf[off + i];
+			this.bytes[2 * i] = (byte) (c >> 8);
+			this.bytes[2 * i + 1] = (byte) c;
+		}
+		this.digest.update(this.bytes, 0, 2 * len);
+	}
+
+	/**
+	 * Get the hash of all chars read so far (as hex string). This resets the
+	 * hash.
+	 *
+	 * @return the hash
+	 */
+	String getHash() {
+		return DigestReader.toHex(this.digest.digest());
+	}
+
+	/**
+	 * Calculate the hash of a string as it would be calculated by reading it
+	 * through a {@link DigestReader}.
+	 *
+	 * @param data
+	 *            the data
+	 * @return the hash (as hex string)
+	 */
+	static String hash(String data) {
+		DigestReader reader = new DigestReader(Reader.nullReader());
+		char[] chars = data.toCharArray();
+		reader.update(chars, 0, chars.length);
+		return reader.getHash();
+	}
+
+	private static String toHex(byte[] hash) {
+		return String.format("%0" + (2 * hash.length) + "x", new BigInteger(1, hash));
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(DigestReader.ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(DigestReader.ALGORITHM + " not supported", e);
+		}
+	}
+}
@@ -1,14 +1,17 @@
 package rekit.persistence.level;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -21,6 +24,15 @@ import rekit.config.GameConf;
  */
 public final class LevelDefinition implements Comparable<LevelDefinition> {
 
+	/**
+	 * The separator between type and hash in the id of a level.
+	 */
+	private static final String ID_SEPARATOR = "@";
+	/**
+	 * The separator between type and raw data in the id of former versions.
+	 */
+	private static final String LEGACY_ID_SEPARATOR = ":::";
+
 	private final LevelType type;
 	private final String name;
 	/**
@@ -29,15 +41,20 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 	 */
 	private Long seed = null;
 	private int arcadeNum;
-	private List<String[][]> structures = new LinkedList<>();
+	private List<String[][]> structures = new ArrayList<>();
 	private SortedMap<String, String> aliases = new TreeMap<>();
 	private SortedMap<String, String> settings = new TreeMap<>();
 	private SortedMap<String, String> bossSettings = new TreeMap<>();
 	private Map<DataKey, Serializable> data = new HashMap<>();
-	private final String rawData;
+	/**
+	 * The id of the level: the type and the hash of the raw data (the raw data
+	 * itself is not retained).
+	 */
+	private final String id;
 
 	/**
-	 * Create a new LevelDefinition by data and type.
+	 * Create a new LevelDefinition by data and type. The stream will be
+	 * closed.
 	 *
 	 * @param in
 	 *            the input data (e.g. from file) of the level
@@ -45,14 +62,28 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 	 *            the type of the level
 	 */
 	public LevelDefinition(InputStream in, LevelType type) {
-		this.type = type;
-		Scanner scanner = new Scanner(in, Charset.defaultCharset().name());
-		scanner.useDelimiter("\\A");
-		String input = scanner.hasNext() ? scanner.next() : "";
-		scanner.close();
+		this(new InputStreamReader(in, Charset.defaultCharset()), type);
+	}
 
-		this.rawData = type + ":::" + input;
-		LevelParser.parseLevel(input, this);
+	/**
+	 * Create a new LevelDefinition by data and type. The data is parsed while
+	 * reading, so the input may be arbitrarily large (e.g. a
+	 * {@link java.nio.channels.Channels#newReader(java.nio.channels.ReadableByteChannel, Charset)
+	 * ReadableByteChannel}). The reader will be closed.
+	 *
+	 * @param in
+	 *            the input data (e.g. from file) of the level
+	 * @param type
+	 *            the type of the level
+	 */
+	public LevelDefinition(Reader in, LevelType type) {
+		this.type = type;
+		try (DigestReader reader = new DigestReader(in)) {
+			LevelParser.parseLevel(reader, this);
+			this.id = LevelDefinition.createID(type, reader.getHash());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 		this.name = this.calcName();
 		this.arcadeNum = -1;
 	}
@@ -93,7 +124,29 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 		if (this.isSettingSet(SettingKey.NAME)) {
 			name = this.getSetting(SettingKey.NAME);
 		}
-		return (name == null ? this.getRawData() : name);
+		return (name == null ? this.getID() : name);
+	}
+
+	private static String createID(LevelType type, String hash) {
+		return type + LevelDefinition.ID_SEPARATOR + hash;
+	}
+
+	/**
+	 * Calculate the id of a level from an id of former versions, which
+	 * contained the whole raw data of the level.
+	 *
+	 * @param id
+	 *            the id
+	 * @return the current id or {@code null} if the id is no id of former
+	 *         versions
+	 */
+	static String migrateID(String id) {
+		int split = id.indexOf(LevelDefinition.LEGACY_ID_SEPARATOR);
+		if (split < 0) {
+			return null;
+		}
+		String type = id.substring(0, split);
+		return type + LevelDefinition.ID_SEPARATOR + DigestReader.hash(id.substring(split + LevelDefinition.LEGACY_ID_SEPARATOR.length()));
 	}
 
 	/**
@@ -230,12 +283,12 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 	}
 
 	/**
-	 * Get the data of the level.
+	 * Get the id of the level (the type and the hash of the raw data).
 	 *
-	 * @return the data
+	 * @return the id
 	 */
-	public String getRawData() {
-		return this.rawData;
+	public String getID() {
+		return this.id;
 	}
 
 	/**
@@ -326,7 +379,7 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
-		result = prime * result + ((this.rawData == null) ? 0 : this.rawData.hashCode());
+		result = prime * result + ((this.id == null) ? 0 : this.id.hashCode());
 		return result;
 	}
 
@@ -339,7 +392,7 @@ public final class LevelDefinition implements Comparable<LevelDefinition> {
 			return false;
 		}
 		LevelDefinition other = (LevelDefinition) obj;
-		return this.rawData == null ? other.rawData == null : this.rawData.equals(other.rawData);
+		return this.id == null ? other.id == null : this.id.equals(other.id);
 	}
 
 }
@@ -15,7 +15,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import org.fuchss.objectcasket.ObjectCasketFactory;
@@ -33,7 +33,9 @@ import rekit.persistence.DirFileDefinitions;
 import rekit.persistence.ModManager;
 import rekit.persistence.level.parser.UnexpectedTokenException;
 import rekit.util.LambdaUtil;
+import rekit.util.ThreadUtils;
 import rekit.util.container.RWContainer;
+import rekit.util.profiling.events.LevelSaveEvent;
 
 /**
  *
@@ -76,15 +78,16 @@ public final class LevelManager {
 	private static Session SESSION;
 
 	/**
-	 * Load levels.
+	 * Load levels. The database is opened while the levels are parsed.
 	 */
 	public static synchronized void init() {
 		if (LevelManager.initialized) {
 			return;
 		}
-		LevelManager.initDB();
-		LevelManager.initialized = true;
+		CompletableFuture<Void> db = CompletableFuture.runAsync(LevelManager::initDB, r -> ThreadUtils.runDaemon("LevelManager-DB", r));
 		LambdaUtil.invoke(LevelManager::loadAllLevels);
+		db.join();
+		LevelManager.initialized = true;
 		LevelManager.loadDataFromFile();
 
 	}
@@ -218,7 +221,8 @@ public final class LevelManager {
 	 * Add a level by structure-file.
 	 *
 	 * @param levelStructure
-	 *            the level structure
+	 *            the level structure (parsed while reading, so it may be
+	 *            arbitrarily large; the stream will be closed)
 	 * @throws IOException
 	 *             will thrown if Resources are not accessible
 	 * @param reloadUserData
@@ -322,11 +326,11 @@ public final class LevelManager {
 		if (level == null) {
 			return null;
 		}
-		LevelManager.LEVEL_MAP.put(level.getRawData(), level);
+		LevelManager.LEVEL_MAP.put(level.getID(), level);
 		if (reloadUserData) {
 			LevelManager.loadDataFromFile();
 		}
-		return level.getRawData();
+		return level.getID();
 	}
 
 	/**
@@ -345,20 +349,29 @@ public final class LevelManager {
 	private static void loadDataFromFile() {
 		try {
 			Set<LevelData> data = LevelManager.SESSION.getAllObjects(LevelData.class);
+			// Data of former versions is stored by raw data of the level. Apply
+			// it first, so that data stored by id takes precedence.
 			for (LevelData datum : data) {
-				LevelDefinition level = LevelManager.findByID(datum.data);
-				if (level == null) {
-					continue;
-				}
-				level.setData(DataKey.HIGH_SCORE, datum.highscore, false);
-				level.setData(DataKey.WON, datum.won, false);
-				level.setData(DataKey.SUCCESS, datum.success, false);
+				String id = datum.data == null ? null : LevelDefinition.migrateID(datum.data);
+				LevelManager.applyData(LevelManager.findByID(id), datum);
+			}
+			for (LevelData datum : data) {
+				LevelManager.applyData(LevelManager.findByID(datum.data), datum);
 			}
 		} catch (ObjectCasketException e) {
 			GameConf.GAME_LOGGER.error("Error while opening " + DirFileDefinitions.USER_DATA_DB.getAbsolutePath() + " for scores and saves");
 		}
 	}
 
+	private static void applyData(LevelDefinition level, LevelData datum) {
+		if (level == null) {
+			return;
+		}
+		level.setData(DataKey.HIGH_SCORE, datum.highscore, false);
+		level.setData(DataKey.WON, datum.won, false);
+		level.setData(DataKey.SUCCESS, datum.success, false);
+	}
+
 	/**
 	 * Find level by name and type.
 	 *
@@ -371,11 +384,7 @@ public final class LevelManager {
 		if (id == null) {
 			return null;
 		}
-		List<LevelDefinition> levels = LevelManager.LEVEL_MAP.values().stream().filter(level -> id.equals(level.getRawData())).collect(Collectors.toList());
-		if (levels.isEmpty()) {
-			return null;
-		}
-		return levels.get(0);
+		return LevelManager.LEVEL_MAP.get(id);
 	}
 
 	/**
@@ -385,9 +394,11 @@ public final class LevelManager {
 		if (!LevelManager.initialized) {
 			return;
 		}
+		LevelSaveEvent event = new LevelSaveEvent();
+		event.begin();
 		for (LevelDefinition ld : LevelManager.LEVEL_MAP.values()) {
 			try {
-				LevelData lvd = new LevelData(ld.getName(), ld.getType().ordinal(), ld.getRawData());
+				LevelData lvd = new LevelData(ld.getName(), ld.getType().ordinal(), ld.getID());
 				Set<LevelData> lvData = LevelManager.SESSION.getObjectsByPrototype(lvd, LevelData.getCompare());
 				if (lvData != null && lvData.size() == 1) {
 					lvd = lvData.iterator().next();
@@ -402,6 +413,10 @@ public final class LevelManager {
 				GameConf.GAME_LOGGER.error("Error while saving " + DirFileDefinitions.USER_DATA_DB.getAbsolutePath() + " for scores and saves");
 			}
 		}
+		if (event.shouldCommit()) {
+			event.levels = LevelManager.LEVEL_MAP.size();
+			event.commit();
+		}
 	}
 
 	@Override
@@ -1,7 +1,7 @@
 package rekit.persistence.level;
 
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 import rekit.persistence.level.parser.Token;
@@ -26,18 +26,32 @@ public final class LevelParser {
 	 *            the manager of structure
 	 */
 	public static void parseLevel(String input, LevelDefinition manager) {
-		new LevelParser(input).parse(manager);
+		if (input == null) {
+			throw new IllegalArgumentException("Input for LevelParser cannot be null");
+		}
+		new LevelParser(new Tokenizer(input)).parse(manager);
 	}
 
 	/**
-	 * The original string.
+	 * Parse a level while reading it. The input is not retained, every
+	 * structure is passed to the manager as soon as it has been read.
+	 *
+	 * @param input
+	 *            the definitions (the reader will not be closed)
+	 * @param manager
+	 *            the manager of structure
 	 */
-	private final String input;
+	public static void parseLevel(Reader input, LevelDefinition manager) {
+		if (input == null) {
+			throw new IllegalArgumentException("Input for LevelParser cannot be null");
+		}
+		new LevelParser(new Tokenizer(input)).parse(manager);
+	}
 
 	/**
 	 * The tokenizer.
 	 */
-	private Tokenizer tokenizer;
+	private final Tokenizer tokenizer;
 	/**
 	 * The look ahead Token.
 	 */
@@ -49,17 +63,13 @@ public final class LevelParser {
 	private LevelDefinition levelDef;
 
 	/**
-	 * Instantiate the parser by the input string.
+	 * Instantiate the parser by its tokenizer.
 	 *
-	 * @param input
-	 *            the input string
+	 * @param tokenizer
+	 *            the tokenizer of the input
 	 */
-	private LevelParser(String input) {
-		if (input == null) {
-			throw new IllegalArgumentException("Input for LevelParser cannot be null");
-		}
-		this.input = "" + input;
-		this.tokenizer = new Tokenizer(this.input);
+	private LevelParser(Tokenizer tokenizer) {
+		this.tokenizer = tokenizer;
 	}
 
 	/**
@@ -68,7 +78,7 @@ public final class LevelParser {
 	 * @param definition
 	 *            the LevelDefinitionImpl
 	 */
-	public void parse(LevelDefinition definition) {
+	private void parse(LevelDefinition definition) {
 		if (definition == null) {
 			throw new IllegalArgumentException("manager cannot be null");
 		}
@@ -76,30 +86,30 @@ public final class LevelParser {
 		this.lookAhead = this.tokenizer.nextToken();
 		this.parseLevel();
 		this.readToken(TokenType.EOS);
-		this.reset();
+		this.lookAhead = null;
 	}
 
 	/**
-	 * Parse a LevelDefinitionImpl.
-	 *
-	 * @param definition
-	 *            LevelDefinitionImpl
+	 * Parse a LevelDefinitionImpl.<br>
+	 * The top level blocks are parsed iteratively, so the amount of blocks does
+	 * not influence the stack depth.
 	 */
 	private void parseLevel() {
-		if (this.isToken(TokenType.ALIAS)) {
-			this.parseAlias();
-		}
-		if (this.isToken(TokenType.SETTING)) {
-			this.parseSetting();
-		}
-		if (this.isToken(TokenType.BOSS_SETTING)) {
-			this.parseBossSetting();
-		}
-		if (this.isToken(TokenType.BEGIN)) {
-			this.parseStructure();
-		}
-		if (this.isToken(TokenType.ALIAS, TokenType.SETTING, TokenType.BOSS_SETTING, TokenType.BEGIN)) {
-			this.parseLevel();
+		while (this.isToken(TokenType.ALIAS, TokenType.SETTING, TokenType.BOSS_SETTING, TokenType.BEGIN)) {
+			switch (this.lookAhead.getType()) {
+			case ALIAS:
+				this.parseAlias();
+				break;
+			case SETTING:
+				this.parseSetting();
+				break;
+			case BOSS_SETTING:
+				this.parseBossSetting();
+				break;
+			default:
+				this.parseStructure();
+				break;
+			}
 		}
 	}
 
@@ -111,7 +121,7 @@ public final class LevelParser {
 	 */
 	private void parseStructure() {
 		this.readToken(TokenType.BEGIN);
-		List<String[]> lines = new LinkedList<>();
+		List<String[]> lines = new ArrayList<>();
 		while (this.isToken(TokenType.BEGIN)) {
 			String[] line = this.readLevelLine();
 			lines.add(line);
@@ -196,14 +206,6 @@ public final class LevelParser {
 		return this.readToken(TokenType.MAPPING).getValue().split("->");
 	}
 
-	/**
-	 * Reset parser.
-	 */
-	private void reset() {
-		this.tokenizer = new Tokenizer(this.input);
-		this.lookAhead = null;
-	}
-
 	/**
 	 * Checks if is token of one of the types.
 	 *
@@ -7,12 +7,26 @@ package rekit.persistence.level.parser;
  * @see TokenType
  */
 public class Token {
+	/** Token for {@link TokenType#BEGIN}. */
+	static final Token BEGIN = new Token("{", TokenType.BEGIN);
+	/** Token for {@link TokenType#END}. */
+	static final Token END = new Token("}", TokenType.END);
+	/** Token for {@link TokenType#DELIMITER}. */
+	static final Token DELIMITER = new Token("::", TokenType.DELIMITER);
+	/** Token for {@link TokenType#ALIAS}. */
+	static final Token ALIAS = new Token("#ALIAS", TokenType.ALIAS);
+	/** Token for {@link TokenType#SETTING}. */
+	static final Token SETTING = new Token("#SETTING", TokenType.SETTING);
+	/** Token for {@link TokenType#BOSS_SETTING}. */
+	static final Token BOSS_SETTING = new Token("#BOSS_SETTING", TokenType.BOSS_SETTING);
+	/** Token for {@link TokenType#EOS}. */
+	private static final Token EOS = new Token(null, TokenType.EOS);
 
 	/** The type of the Token. */
-	private TokenType type;
+	private final TokenType type;
 
 	/** The value of the Token. */
-	private String value;
+	private final String value;
 
 	/**
 	 * This creates a new Token by Value.
@@ -25,7 +39,15 @@ public class Token {
 		this.type = TokenType.calcType(value);
 	}
 
-	private Token(String value, TokenType type) {
+	/**
+	 * This creates a new Token by Value and already known Type.
+	 *
+	 * @param value
+	 *            value
+	 * @param type
+	 *            the type of the value
+	 */
+	Token(String value, TokenType type) {
 		this.value = value;
 		this.type = type;
 	}
@@ -36,7 +58,7 @@ public class Token {
 	 * @return an EOS token
 	 */
 	public static Token getEOSToken() {
-		return new Token(null, TokenType.EOS);
+		return Token.EOS;
 	}
 
 	/**
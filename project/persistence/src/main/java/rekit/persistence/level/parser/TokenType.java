@@ -78,16 +78,46 @@ public enum TokenType {
 	}
 
 	/**
-	 * Find value from content.
+	 * Find value from content.<br>
+	 * A mapping matches {@code (\w|(\+|-)?\d|_|\.)+->(\w|\d|_|-|\.|:)+};
+	 * this is checked char by char as this method is invoked for every cell of
+	 * a level.
 	 *
 	 * @param input
 	 *            the input
 	 * @return the type
 	 */
-	private static TokenType determinateByContent(String input) {
-		if (input.matches("(\\w|(\\+|-)?\\d|_|\\.)+->(\\w|\\d|_|-|\\.|:)+")) {
-			return TokenType.MAPPING;
+	static TokenType determinateByContent(String input) {
+		int arrow = input.indexOf("->");
+		if (arrow <= 0 || arrow + 2 >= input.length()) {
+			return TokenType.RAW;
 		}
-		return TokenType.RAW;
+		// The left side cannot contain "->" (a sign has to be followed by a
+		// digit), so the first arrow is the only possible split.
+		for (int i = 0; i < arrow; i++) {
+			char c = input.charAt(i);
+			if (c == '+' || c == '-') {
+				if (!TokenType.isDigit(input.charAt(++i))) {
+					return TokenType.RAW;
+				}
+			} else if (!TokenType.isWordChar(c) && c != '.') {
+				return TokenType.RAW;
+			}
+		}
+		for (int i = arrow + 2; i < input.length(); i++) {
+			char c = input.charAt(i);
+			if (!TokenType.isWordChar(c) && c != '-' && c != '.' && c != ':') {
+				return TokenType.RAW;
+			}
+		}
+		return TokenType.MAPPING;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWordChar(char c) {
+		return TokenType.isDigit(c) || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
 	}
 }
@@ -1,9 +1,16 @@
 package rekit.persistence.level.parser;
 
-import java.util.StringTokenizer;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
 
 /**
- * This class realizes a tokenizer for the LevelLanguage.
+ * This class realizes a tokenizer for the LevelLanguage.<br>
+ * The input is scanned in a single pass char by char; the special identifiers
+ * (see {@link TokenType#SPECIAL_ID_MAP_TO_TYPES}) are recognized directly and
+ * need not to be separated by whitespace. Input from a {@link Reader} is
+ * consumed in chunks, so only the current token has to fit into memory.
  *
  * @author Dominik Fuchss
  * @see TokenType
@@ -11,13 +18,40 @@ import java.util.StringTokenizer;
  */
 public class Tokenizer {
 	/**
-	 * The original input string.
+	 * The initial size of the buffer for {@link Reader} input.
 	 */
-	private final String input;
+	private static final int BUFFER_SIZE = 8192;
 	/**
-	 * The inner tokenizer.
+	 * Cache for single char values (the most common content of level cells).
 	 */
-	private final StringTokenizer scanner;
+	private static final String[] SINGLE_CHARS = new String[128];
+
+	static {
+		for (char c = 0; c < Tokenizer.SINGLE_CHARS.length; c++) {
+			Tokenizer.SINGLE_CHARS[c] = String.valueOf(c).intern();
+		}
+	}
+
+	/**
+	 * The reader or {@code null} if the whole input is in {@link #buf}.
+	 */
+	private final Reader reader;
+	/**
+	 * The buffer.
+	 */
+	private char[] buf;
+	/**
+	 * The current position in {@link #buf}.
+	 */
+	private int pos;
+	/**
+	 * The start of the current token in {@link #buf}.
+	 */
+	private int mark;
+	/**
+	 * The end of the valid content of {@link #buf}.
+	 */
+	private int limit;
 
 	/**
 	 * Instantiate a new Tokenizer by input string.
@@ -29,23 +63,165 @@ public class Tokenizer {
 		if (input == null) {
 			throw new IllegalArgumentException("Null is no input!");
 		}
-		String modIn = "" + input;
-		for (String k : TokenType.SPECIAL_ID_MAP_TO_TYPES.keySet()) {
-			modIn = modIn.replace(k, " " + k + " ");
+		this.reader = null;
+		this.buf = input.toCharArray();
+		this.limit = this.buf.length;
+	}
+
+	/**
+	 * Instantiate a new Tokenizer by a reader. The reader will not be closed.
+	 *
+	 * @param input
+	 *            the reader
+	 */
+	public Tokenizer(Reader input) {
+		if (input == null) {
+			throw new IllegalArgumentException("Null is no input!");
 		}
-		this.input = modIn;
-		this.scanner = new StringTokenizer(this.input, " \t\n\r");
+		this.reader = input;
+		this.buf = new char[Tokenizer.BUFFER_SIZE];
+		this.limit = 0;
 	}
 
 	/**
 	 * Get the next token.
 	 *
 	 * @return the token
+	 * @throws UncheckedIOException
+	 *             iff the reader could not be read
 	 */
 	public Token nextToken() {
-		if (!this.scanner.hasMoreTokens()) {
+		this.mark = this.pos;
+		while (this.available(1) && Tokenizer.isDelimiter(this.buf[this.pos])) {
+			this.mark = ++this.pos;
+		}
+		if (!this.available(1)) {
 			return Token.getEOSToken();
 		}
-		return new Token(this.scanner.nextToken());
+
+		Token special = this.special();
+		if (special != null) {
+			this.pos += special.getValue().length();
+			return special;
+		}
+
+		while (this.available(1) && !Tokenizer.isDelimiter(this.buf[this.pos]) && this.special() == null) {
+			this.pos++;
+		}
+		int length = this.pos - this.mark;
+		char first = this.buf[this.mark];
+		String value = length == 1 && first < Tokenizer.SINGLE_CHARS.length ? Tokenizer.SINGLE_CHARS[first] : new String(this.buf, this.mark, length);
+		return new Token(value, TokenType.determinateByContent(value));
+	}
+
+	/**
+	 * Check whether a special token starts at the current position.
+	 *
+	 * @return the special token or {@code null} if none starts there
+	 */
+	private Token special() {
+		switch (this.buf[this.pos]) {
+		case '{':
+			return Token.BEGIN;
+		case '}':
+			return Token.END;
+		case ':':
+			return this.available(2) && this.buf[this.pos + 1] == ':' ? Token.DELIMITER : null;
+		case '#':
+			if (this.startsWith(Token.ALIAS)) {
+				return Token.ALIAS;
+			}
+			if (this.startsWith(Token.SETTING)) {
+				return Token.SETTING;
+			}
+			if (this.startsWith(Token.BOSS_SETTING)) {
+				return Token.BOSS_SETTING;
+			}
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Check whether the value of a token starts at the current position.
+	 *
+	 * @param token
+	 *            the token
+	 * @return {@code true} if so, {@code false} otherwise
+	 */
+	private boolean startsWith(Token token) {
+		String value = token.getValue();
+		if (!this.available(value.length())) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (this.buf[this.pos + i] != value.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Ensure that (if possible) at least n chars are buffered after the current
+	 * position.
+	 *
+	 * @param n
+	 *            the amount of chars
+	 * @return {@code true} if n chars are available, {@code false} if the
+	 *         input ends before
+	 */
+	private boolean available(int n) {
+		if (this.pos + n <= this.limit) {
+			return true;
+		}
+		if (this.reader == null) {
+			return false;
+		}
+		try {
+			this.fill(n);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return this.pos + n <= this.limit;
+	}
+
+	/**
+	 * Read more input. The current token (starting at {@link #mark}) is kept.
+	 *
+	 * @param n
+	 *            the amount of chars needed after the current position
+	 * @throws IOException
+	 *             iff the reader could not be read
+	 */
+	private void fill(int n) throws IOException {
+		if (this.mark > 0) {
+			System.arraycopy(this.buf, this.mark, this.buf, 0, this.limit - this.mark);
+			this.pos -= this.mark;
+			this.limit -= this.mark;
+			this.mark = 0;
+		}
+		while (this.pos + n > this.limit) {
+			if (this.limit == this.buf.length) {
+				this.buf = Arrays.copyOf(this.buf, 2 * this.buf.length);
+			}
+			int read = this.reader.read(this.buf, this.limit, this.buf.length - this.limit);
+			if (read < 0) {
+				return;
+			}
+			this.limit += read;
+		}
+	}
+
+	/**
+	 * Check whether a char separates tokens.
+	 *
+	 * @param c
+	 *            the char
+	 * @return {@code true} if delimiter, {@code false} otherwise
+	 */
+	private static boolean isDelimiter(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r';
 	}
 }
@@ -0,0 +1,168 @@
+package rekit.persistence.level.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import rekit.config.GameConf;
+
+/**
+ * Benchmark of the {@link Tokenizer} against the former tokenizer
+ * ({@link LegacyTokenizer}) on synthetic levels with 100k cells. Only run by
+ * the benchmark profile ({@code mvn test -Pbenchmark}); the results will be
+ * logged by {@link GameConf#GAME_LOGGER}.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+public class TokenizerBenchmark {
+	/**
+	 * 1000 structures of 10x10 cells.
+	 */
+	private static final String MANY_STRUCTURES = TokenizerBenchmark.level(1000, 10, 10);
+	/**
+	 * One structure of 10x10000 cells.
+	 */
+	private static final String LONG_STRUCTURE = TokenizerBenchmark.level(1, 10, 10000);
+	/**
+	 * The amount of timed parses (after as many untimed ones).
+	 */
+	private static final int RUNS = 30;
+
+	@BeforeClass
+	public static void enableLogging() {
+		Configurator.setLevel(GameConf.GAME_LOGGER.getName(), Level.INFO);
+	}
+
+	@Test
+	public void sameTokensAsLegacyTokenizer() {
+		for (String level : new String[] { TokenizerBenchmark.MANY_STRUCTURES, TokenizerBenchmark.LONG_STRUCTURE }) {
+			Assert.assertEquals(TokenizerBenchmark.tokens(new LegacyTokenizer(level)::nextToken), TokenizerBenchmark.tokens(new Tokenizer(level)::nextToken));
+		}
+	}
+
+	@Test
+	public void manyStructures() {
+		TokenizerBenchmark.compare("1000 structures of 10x10", TokenizerBenchmark.MANY_STRUCTURES);
+	}
+
+	@Test
+	public void longStructure() {
+		TokenizerBenchmark.compare("1 structure of 10x10000", TokenizerBenchmark.LONG_STRUCTURE);
+	}
+
+	/**
+	 * Time both tokenizers on a level and log the results.
+	 *
+	 * @param name
+	 *            the name of the level
+	 * @param level
+	 *            the level
+	 */
+	private static void compare(String name, String level) {
+		double legacy = TokenizerBenchmark.millisPerParse(() -> new LegacyTokenizer(level)::nextToken);
+		double current = TokenizerBenchmark.millisPerParse(() -> new Tokenizer(level)::nextToken);
+		GameConf.GAME_LOGGER.info(name + ": old " + legacy + " ms, new " + current + " ms per parse");
+	}
+
+	/**
+	 * Tokenize a level repeatedly.
+	 *
+	 * @param tokenizer
+	 *            creates a tokenizer of the level (as source of tokens)
+	 * @return the mean time of the timed parses in millis (rounded to 0.1)
+	 */
+	private static double millisPerParse(Supplier<Supplier<Token>> tokenizer) {
+		long start = 0;
+		for (int i = 0; i < 2 * TokenizerBenchmark.RUNS; i++) {
+			if (i == TokenizerBenchmark.RUNS) {
+				start = System.nanoTime();
+			}
+			Supplier<Token> tokens = tokenizer.get();
+			while (tokens.get().getType() != TokenType.EOS) {
+				// only scan
+			}
+		}
+		return Math.round((System.nanoTime() - start) / 1E5 / TokenizerBenchmark.RUNS) / 10.0;
+	}
+
+	private static List<String> tokens(Supplier<Token> tokenizer) {
+		List<String> tokens = new ArrayList<>();
+		for (Token token = tokenizer.get(); token.getType() != TokenType.EOS; token = tokenizer.get()) {
+			tokens.add(token.getType() + " " + token.getValue());
+		}
+		return tokens;
+	}
+
+	/**
+	 * Generate a level with some settings and aliases.
+	 *
+	 * @param structures
+	 *            the amount of structures
+	 * @param height
+	 *            the height of a structure
+	 * @param width
+	 *            the width of a structure
+	 * @return the level
+	 */
+	private static String level(int structures, int height, int width) {
+		StringBuilder level = new StringBuilder();
+		level.append("#SETTING::infinite->true\n#BOSS_SETTING::AT500->RektSmasher\n");
+		level.append("#ALIAS::1->Inanimate\n#ALIAS::23->Piston:3:2\n#ALIAS::-1->Enemy\n\n");
+		String[] cells = { "0", "0", "0", "1", "1", "23", "-1", "5" };
+		int cell = 0;
+		for (int s = 0; s < structures; s++) {
+			level.append("{\n");
+			for (int y = 0; y < height; y++) {
+				level.append('{');
+				for (int x = 0; x < width; x++) {
+					level.append(x == 0 ? "" : "\t").append(cells[cell++ % cells.length]);
+				}
+				level.append("}\n");
+			}
+			level.append("}\n");
+		}
+		return level.toString();
+	}
+
+	/**
+	 * The former tokenizer: pads the special identifiers with spaces, splits
+	 * by {@link StringTokenizer} and determines the types by regex.
+	 *
+	 * @author Dominik Fuchss
+	 *
+	 */
+	private static final class LegacyTokenizer {
+		/**
+		 * The inner tokenizer.
+		 */
+		private final StringTokenizer scanner;
+
+		private LegacyTokenizer(String input) {
+			String modIn = "" + input;
+			for (String k : TokenType.SPECIAL_ID_MAP_TO_TYPES.keySet()) {
+				modIn = modIn.replace(k, " " + k + " ");
+			}
+			this.scanner = new StringTokenizer(modIn, " \t\n\r");
+		}
+
+		private Token nextToken() {
+			if (!this.scanner.hasMoreTokens()) {
+				return Token.getEOSToken();
+			}
+			String value = this.scanner.nextToken();
+			TokenType type = TokenType.SPECIAL_ID_MAP_TO_TYPES.get(value);
+			if (type == null) {
+				type = value.matches("(\\w|(\\+|-)?\\d|_|\\.)+->(\\w|\\d|_|-|\\.|:)+") ? TokenType.MAPPING : TokenType.RAW;
+			}
+			return new Token(value, type);
+		}
+	}
+}
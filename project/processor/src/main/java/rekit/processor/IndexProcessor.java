@@ -0,0 +1,189 @@
+package rekit.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * This processor writes an index of all compiled types to
+ * {@value #INDEX_FILE}. Every line contains (tab separated) the binary name of
+ * a type, all its super types (transitive, comma separated) and its
+ * annotations (comma separated).<br>
+ * An existing index in the class output will be merged (incremental builds
+ * only compile the changed types): entries of types which can no longer be
+ * resolved will be dropped, all other entries will be kept unless the type has
+ * been compiled again.<br>
+ * The index is used by {@code rekit.util.ReflectUtils} instead of scanning the
+ * classpath at runtime.
+ *
+ * @author Dominik Fuchss
+ *
+ */
+@SupportedAnnotationTypes("*")
+public final class IndexProcessor extends AbstractProcessor {
+	/**
+	 * The location of the index in the class output.
+	 */
+	public static final String INDEX_FILE = "META-INF/rekit.index";
+
+	/**
+	 * All index lines (binary name -&gt; line).
+	 */
+	private final Map<String, String> index = new TreeMap<>();
+
+	@Override
+	public synchronized void init(ProcessingEnvironment processingEnv) {
+		super.init(processingEnv);
+		this.readExisting();
+	}
+
+	/**
+	 * Read the existing index (of the last build) from the class output and
+	 * keep the entries of all types which can still be resolved.
+	 */
+	private void readExisting() {
+		String content;
+		try {
+			FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", IndexProcessor.INDEX_FILE);
+			content = file.getCharContent(true).toString();
+		} catch (IOException | IllegalArgumentException e) {
+			// no index yet (e.g. clean build)
+			return;
+		}
+		Elements elements = this.processingEnv.getElementUtils();
+		for (String line : content.split("\n")) {
+			int tab = line.indexOf('\t');
+			if (tab <= 0) {
+				continue;
+			}
+			String name = line.substring(0, tab);
+			// canonical name of member types
+			if (elements.getTypeElement(name.replace('$', '.')) != null || this.isCompiled(name)) {
+				this.index.put(name, line);
+			}
+		}
+	}
+
+	/**
+	 * Indicates whether the class file of a type exists in the class output
+	 * (if the class output is not part of the class path).
+	 *
+	 * @param name
+	 *            the binary name of the type
+	 * @return {@code true} if the class file exists
+	 */
+	private boolean isCompiled(String name) {
+		int dot = name.lastIndexOf('.');
+		try {
+			FileObject file = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, dot < 0 ? "" : name.substring(0, dot),
+					name.substring(dot + 1) + ".class");
+			file.openInputStream().close();
+			return true;
+		} catch (IOException | IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			this.write();
+			return false;
+		}
+		for (Element element : roundEnv.getRootElements()) {
+			this.index(element);
+		}
+		return false;
+	}
+
+	/**
+	 * Index a type and all its member types.
+	 *
+	 * @param element
+	 *            the element
+	 */
+	private void index(Element element) {
+		if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+			return;
+		}
+		TypeElement type = (TypeElement) element;
+		Set<String> supertypes = new TreeSet<>();
+		this.collectSupertypes(type.asType(), supertypes);
+		Set<String> annotations = new TreeSet<>();
+		for (AnnotationMirror annotation : type.getAnnotationMirrors()) {
+			annotations.add(this.binaryName(annotation.getAnnotationType()));
+		}
+		String name = this.binaryName(type.asType());
+		this.index.put(name, name + "\t" + String.join(",", supertypes) + "\t" + String.join(",", annotations));
+
+		for (Element member : type.getEnclosedElements()) {
+			this.index(member);
+		}
+	}
+
+	/**
+	 * Collect all super types of a type (except {@link Object}).
+	 *
+	 * @param type
+	 *            the type
+	 * @param result
+	 *            the set of super types
+	 */
+	private void collectSupertypes(TypeMirror type, Set<String> result) {
+		for (TypeMirror supertype : this.processingEnv.getTypeUtils().directSupertypes(type)) {
+			if (supertype.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+			String name = this.binaryName(supertype);
+			if (!Object.class.getName().equals(name) && result.add(name)) {
+				this.collectSupertypes(supertype, result);
+			}
+		}
+	}
+
+	private String binaryName(TypeMirror type) {
+		TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+		return this.processingEnv.getElementUtils().getBinaryName(element).toString();
+	}
+
+	/**
+	 * Write the index.
+	 */
+	private void write() {
+		try {
+			FileObject file = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", IndexProcessor.INDEX_FILE);
+			try (Writer writer = file.openWriter()) {
+				for (String line : this.index.values()) {
+					writer.write(line);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot write " + IndexProcessor.INDEX_FILE + ": " + e.getMessage());
+		}
+	}
+}